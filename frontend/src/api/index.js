@@ -27,13 +27,16 @@ export const moduleAPI = {
   create: (module) => api.post('/modules', module),
   update: (id, module) => api.put(`/modules/${id}`, module),
   delete: (id) => api.delete(`/modules/${id}`),
-  getRawData: (moduleId) => api.get(`/modules/${moduleId}/raw-data`),
+  // 游标分页：params 可含 cursor、size、count、view、fields
+  getRawData: (moduleId, params = {}) => api.get(`/modules/${moduleId}/raw-data`, { params }),
   getCombined: (moduleId) => api.get(`/modules/${moduleId}/combined`)
 }
 
 // 原始数据相关API
 export const rawDataAPI = {
-  getAll: () => api.get('/raw-data'),
+  // 游标分页：params 可含 dataType、processed、start、end、cursor、size、count，
+  // 以及 view（summary）或 fields（逗号分隔的字段名）以只返回所需字段
+  getAll: (params = {}) => api.get('/raw-data', { params }),
   getById: (id) => api.get(`/raw-data/${id}`),
   getByType: (type) => api.get(`/raw-data/type/${type}`),
   getUnprocessed: () => api.get('/raw-data/unprocessed'),
@@ -45,7 +48,8 @@ export const rawDataAPI = {
 
 // 日志数据相关API
 export const logDataAPI = {
-  getAll: () => api.get('/log-data'),
+  // 游标分页：params 可含 level、start、end、cursor、size、count
+  getAll: (params = {}) => api.get('/log-data', { params }),
   getById: (id) => api.get(`/log-data/${id}`),
   getPage: (page = 0, size = 10) => api.get(`/log-data/page?page=${page}&size=${size}`),
   getByLevel: (level) => api.get(`/log-data/level/${level}`),
@@ -57,7 +61,8 @@ export const logDataAPI = {
 
 // 处理数据相关API
 export const processedDataAPI = {
-  getAll: () => api.get('/processed-data'),
+  // 游标分页：params 可含 processType、minScore、maxScore、cursor、size、count
+  getAll: (params = {}) => api.get('/processed-data', { params }),
   getById: (id) => api.get(`/processed-data/${id}`),
   getByType: (type) => api.get(`/processed-data/type/${type}`),
   getByRawDataId: (rawDataId) => api.get(`/processed-data/raw-data/${rawDataId}`),
@@ -4,6 +4,7 @@ export const USE_MOCK = false
 
 // Mock API 占位符（当 USE_MOCK 为 false 时不会被使用）
 const createMockResponse = (data) => Promise.resolve({ data: { code: 200, data, message: 'success' } })
+const emptyCursorPage = { items: [], nextCursor: null, hasMore: false, size: 0, total: 0 }
 
 export const mockUserAPI = {
   getAll: () => createMockResponse([]),
@@ -22,14 +23,14 @@ export const mockModuleAPI = {
 }
 
 export const mockRawDataAPI = {
-  getAll: () => createMockResponse([]),
+  getAll: () => createMockResponse(emptyCursorPage),
   getById: () => createMockResponse({}),
   create: () => createMockResponse({}),
   delete: () => createMockResponse(null)
 }
 
 export const mockProcessedDataAPI = {
-  getAll: () => createMockResponse([]),
+  getAll: () => createMockResponse(emptyCursorPage),
   getById: () => createMockResponse({}),
   create: () => createMockResponse({}),
   updateConfidence: () => createMockResponse({}),
@@ -37,8 +38,9 @@ export const mockProcessedDataAPI = {
 }
 
 export const mockLogDataAPI = {
-  getAll: () => createMockResponse([]),
+  getAll: () => createMockResponse(emptyCursorPage),
   getById: () => createMockResponse({}),
+  getCountByLevel: () => createMockResponse(0),
   create: () => createMockResponse({}),
   delete: () => createMockResponse(null)
 }
@@ -186,6 +186,10 @@ INSERT INTO `user` (`username`, `email`, `phone`, `status`, `create_time`, `upda
 VALUES ('admin', 'admin@zaiqing.com', '13800138000', 1, NOW(), NOW())
 ON DUPLICATE KEY UPDATE `update_time` = NOW();
 
+-- 灾情编码字典扩展示例（encoding_type = DISASTER_CODE，在内置对照表基础上新增/覆盖编码，修改后自动生效）
+-- INSERT INTO `data_encoding_rule` (`rule_name`, `data_type`, `encoding_type`, `rule_content`, `version`, `status`, `create_time`, `update_time`) VALUES
+-- ('震情指标扩展', 'disaster_id', 'DISASTER_CODE', '[{"level":"indicator","category":"1","code":"004","name":"烈度"}]', '1.0', 1, NOW(), NOW());
+
 -- 插入默认模块
 INSERT INTO `module_entity` (`name`, `description`, `status`, `create_time`, `update_time`) VALUES
 ('多源数据接入模块', '负责从多个数据源接入灾情数据', 1, NOW(), NOW()),
@@ -0,0 +1,55 @@
+package com.example.module.benchmark;
+
+import com.example.module.util.DecodedId;
+import com.example.module.util.FastDisasterIdDecoder;
+import com.example.module.util.ParallelBatchExecutor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 批量解码吞吐随并行度的变化
+ * 每次操作解码一整批ID，parallelism = 1 时为顺序执行
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class BatchDecodeBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    @Param({"100", "10000"})
+    private int batchSize;
+
+    private ParallelBatchExecutor executor;
+    private List<String> batch;
+
+    @Setup
+    public void setup() {
+        executor = parallelism > 1
+                ? new ParallelBatchExecutor(new ForkJoinPool(parallelism), 1)
+                : ParallelBatchExecutor.sequential();
+
+        String[] ids = IdCorpus.ids();
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(ids[i & IdCorpus.MASK]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public List<DecodedId> decodeBatch() {
+        return executor.map(batch, (index, id) -> FastDisasterIdDecoder.decode(id));
+    }
+}
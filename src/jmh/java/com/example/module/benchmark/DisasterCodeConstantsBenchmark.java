@@ -0,0 +1,84 @@
+package com.example.module.benchmark;
+
+import com.example.module.util.CodeDictionary;
+import com.example.module.util.DisasterCodeConstants;
+import com.example.module.util.FastDisasterIdDecoder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 编码对照表查询性能
+ * 字符串接口的查询键与原解码流程一样为从ID中截取的子串；
+ * 整数接口使用快速解码器解析出的编码直接寻址
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class DisasterCodeConstantsBenchmark {
+
+    private final FastDisasterIdDecoder.Fields fields = new FastDisasterIdDecoder.Fields();
+    private String[] ids;
+    private int index;
+
+    @Setup
+    public void setup() {
+        ids = IdCorpus.ids();
+    }
+
+    private String nextId() {
+        index = (index + 1) & IdCorpus.MASK;
+        return ids[index];
+    }
+
+    /**
+     * 单次解码所需的全部六次查询
+     */
+    @Benchmark
+    public void allLookups(Blackhole blackhole) {
+        String id = nextId();
+        String categoryCode = id.substring(30, 31);
+        blackhole.consume(DisasterCodeConstants.getSourceCategoryName(id.substring(26, 27)));
+        blackhole.consume(DisasterCodeConstants.getSourceSubcategoryName(id.substring(27, 29)));
+        blackhole.consume(DisasterCodeConstants.getCarrierName(id.substring(29, 30)));
+        blackhole.consume(DisasterCodeConstants.getCategoryName(categoryCode));
+        blackhole.consume(DisasterCodeConstants.getSubcategoryName(categoryCode, id.substring(31, 33)));
+        blackhole.consume(DisasterCodeConstants.getIndicatorName(categoryCode, id.substring(33, 36)));
+    }
+
+    @Benchmark
+    public String categoryName() {
+        return DisasterCodeConstants.getCategoryName(nextId().substring(30, 31));
+    }
+
+    @Benchmark
+    public String subcategoryName() {
+        String id = nextId();
+        return DisasterCodeConstants.getSubcategoryName(id.substring(30, 31), id.substring(31, 33));
+    }
+
+    @Benchmark
+    public String indicatorName() {
+        String id = nextId();
+        return DisasterCodeConstants.getIndicatorName(id.substring(30, 31), id.substring(33, 36));
+    }
+
+    /**
+     * 单次解码所需的全部六次查询（整数编码直接寻址）
+     */
+    @Benchmark
+    public void allLookupsByCode(Blackhole blackhole) {
+        FastDisasterIdDecoder.parse(nextId(), fields);
+        CodeDictionary dictionary = DisasterCodeConstants.getDictionary();
+        int category = fields.getDisasterCategory();
+        blackhole.consume(dictionary.sourceCategoryName(fields.getSourceCategory()));
+        blackhole.consume(dictionary.sourceSubcategoryName(fields.getSourceSubcategory()));
+        blackhole.consume(dictionary.carrierName(fields.getCarrier()));
+        blackhole.consume(dictionary.categoryName(category));
+        blackhole.consume(dictionary.subcategoryName(category, fields.getDisasterSubcategory()));
+        blackhole.consume(dictionary.indicatorName(category, fields.getDisasterIndicator()));
+    }
+}
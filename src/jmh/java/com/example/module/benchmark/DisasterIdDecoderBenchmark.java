@@ -0,0 +1,75 @@
+package com.example.module.benchmark;
+
+import com.example.module.util.DecodedId;
+import com.example.module.util.DisasterIdDecoder;
+import com.example.module.util.FastDisasterIdDecoder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比原有解码器与快速解码器的性能
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class DisasterIdDecoderBenchmark {
+
+    private final FastDisasterIdDecoder.Fields fields = new FastDisasterIdDecoder.Fields();
+    private String[] ids;
+    private int index;
+
+    @Setup
+    public void setup() {
+        ids = IdCorpus.ids();
+    }
+
+    private String nextId() {
+        index = (index + 1) & IdCorpus.MASK;
+        return ids[index];
+    }
+
+    @Benchmark
+    public DecodedId legacyDecode() {
+        return DisasterIdDecoder.decode(nextId());
+    }
+
+    @Benchmark
+    public DecodedId fastDecode() {
+        return FastDisasterIdDecoder.decode(nextId());
+    }
+
+    /**
+     * 解码后读取全部名称与描述（与原解码器的工作量相同）
+     */
+    @Benchmark
+    public void fastDecodeAllFields(Blackhole blackhole) {
+        DecodedId decoded = FastDisasterIdDecoder.decode(nextId());
+        blackhole.consume(decoded.getSourceCategoryName());
+        blackhole.consume(decoded.getSourceSubcategoryName());
+        blackhole.consume(decoded.getCarrierName());
+        blackhole.consume(decoded.getDisasterCategoryName());
+        blackhole.consume(decoded.getDisasterSubcategoryName());
+        blackhole.consume(decoded.getDisasterIndicatorName());
+        blackhole.consume(decoded.getDescription());
+    }
+
+    @Benchmark
+    public void fastParse(Blackhole blackhole) {
+        blackhole.consume(FastDisasterIdDecoder.parse(nextId(), fields));
+        blackhole.consume(fields.getDisasterIndicator());
+    }
+
+    @Benchmark
+    public boolean legacyIsValid() {
+        return DisasterIdDecoder.isValid(nextId());
+    }
+
+    @Benchmark
+    public boolean fastIsValid() {
+        return FastDisasterIdDecoder.isValid(nextId());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.module.benchmark;
+
+import com.example.module.util.DisasterIdScanner;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 对比正则 \d{36} 与手写扫描器提取ID的性能
+ * 单个ID：报文正文中找第一个ID；多个ID：把整个语料拼接成一段大文本后找出全部ID
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class DisasterIdScannerBenchmark {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\\d{36}");
+
+    private String[] dataContents;
+    private String bulkContent;
+    private int index;
+
+    @Setup
+    public void setup() {
+        dataContents = IdCorpus.dataContents();
+        bulkContent = String.join("\n", dataContents);
+    }
+
+    private String nextContent() {
+        index = (index + 1) & IdCorpus.MASK;
+        return dataContents[index];
+    }
+
+    @Benchmark
+    public String regexFirst() {
+        Matcher matcher = ID_PATTERN.matcher(nextContent());
+        return matcher.find() ? matcher.group() : null;
+    }
+
+    @Benchmark
+    public String scannerFirst() {
+        return DisasterIdScanner.findFirst(nextContent());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void regexAll(Blackhole blackhole) {
+        Matcher matcher = ID_PATTERN.matcher(bulkContent);
+        while (matcher.find()) {
+            blackhole.consume(matcher.group());
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long scannerAll(Blackhole blackhole) {
+        return DisasterIdScanner.scan(bulkContent, (id, offset) -> {
+            blackhole.consume(id);
+            return true;
+        });
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long scannerAllFromReader(Blackhole blackhole) throws IOException {
+        return DisasterIdScanner.scan(new StringReader(bulkContent), (id, offset) -> {
+            blackhole.consume(id);
+            return true;
+        });
+    }
+}
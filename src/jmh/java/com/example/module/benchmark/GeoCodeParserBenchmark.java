@@ -0,0 +1,82 @@
+package com.example.module.benchmark;
+
+import com.example.module.util.AdminDivisionIndex;
+import com.example.module.util.GeoCodeParser;
+import com.example.module.util.ReverseGeocodeIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 地理码解析、离线行政区划定位及离线逆地理编码性能
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class GeoCodeParserBenchmark {
+
+    private String[] geoCodes;
+    private AdminDivisionIndex divisionIndex;
+    private ReverseGeocodeIndex reverseIndex;
+    private double[] longitudes;
+    private double[] latitudes;
+    private int index;
+
+    @Setup
+    public void setup() throws IOException {
+        geoCodes = IdCorpus.geoCodes();
+        try (Reader reader = new InputStreamReader(
+                getClass().getResourceAsStream("/geo/admin-divisions.csv"), StandardCharsets.UTF_8)) {
+            divisionIndex = AdminDivisionIndex.load(reader);
+        }
+        reverseIndex = ReverseGeocodeIndex.build(divisionIndex.getDivisions());
+
+        // 中国境内范围的随机坐标
+        Random random = new Random(42);
+        longitudes = new double[IdCorpus.SIZE];
+        latitudes = new double[IdCorpus.SIZE];
+        for (int i = 0; i < IdCorpus.SIZE; i++) {
+            longitudes[i] = 73 + random.nextDouble() * 62;
+            latitudes[i] = 18 + random.nextDouble() * 36;
+        }
+    }
+
+    private String nextGeoCode() {
+        index = (index + 1) & IdCorpus.MASK;
+        return geoCodes[index];
+    }
+
+    @Benchmark
+    public GeoCodeParser.GeoCodeInfo parse() {
+        return GeoCodeParser.parse(nextGeoCode());
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return GeoCodeParser.isValid(nextGeoCode());
+    }
+
+    /**
+     * 沿行政区划前缀树逐层定位
+     */
+    @Benchmark
+    public AdminDivisionIndex.Division[] resolveDivisions() {
+        return divisionIndex.resolve(nextGeoCode());
+    }
+
+    /**
+     * k-d 树最近中心点查询
+     */
+    @Benchmark
+    public ReverseGeocodeIndex.Match reverseNearest() {
+        index = (index + 1) & IdCorpus.MASK;
+        return reverseIndex.nearest(longitudes[index], latitudes[index]);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.module.benchmark;
+
+import java.util.Random;
+
+/**
+ * 基准测试用的ID语料
+ * 使用固定随机种子生成，保证各版本之间的测试数据一致：
+ * - 地理码取自常见的县区代码，乡镇/村代码随机
+ * - 时间码为2008-2025年间的合法时间
+ * - 来源、载体、灾情编码均取对照表中存在的组合
+ */
+public final class IdCorpus {
+
+    /**
+     * 语料大小（2的幂，便于用掩码循环取值）
+     */
+    public static final int SIZE = 1024;
+
+    public static final int MASK = SIZE - 1;
+
+    private static final String[] DISTRICTS = {
+            "110101", "110105", "310115", "320102", "330106", "370102", "420106", "440305",
+            "500103", "510104", "510107", "511702", "530102", "540102", "620102", "630102",
+            "640104", "650102"
+    };
+
+    // 各灾害大类下的子类数量（与 DisasterCodeConstants 一致）
+    private static final int[] SUBCATEGORY_COUNT = {0, 1, 3, 5, 7, 7};
+
+    private IdCorpus() {
+    }
+
+    /**
+     * 生成36位ID
+     */
+    public static String[] ids() {
+        Random random = new Random(20240115L);
+        String[] ids = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            ids[i] = randomId(random);
+        }
+        return ids;
+    }
+
+    /**
+     * 生成12位地理码
+     */
+    public static String[] geoCodes() {
+        String[] ids = ids();
+        String[] geoCodes = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            geoCodes[i] = ids[i].substring(0, 12);
+        }
+        return geoCodes;
+    }
+
+    /**
+     * 生成包含ID的文件名，例如 "现场照片_<id>_01.jpg"
+     */
+    public static String[] fileNames() {
+        String[] prefixes = {"现场照片_", "report-", "", "后方指挥部-20240115-", "IMG_0932_"};
+        String[] suffixes = {".jpg", "_01.png", ".xlsx", ".mp4", "_final.docx"};
+        String[] ids = ids();
+        Random random = new Random(7L);
+        String[] fileNames = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            fileNames[i] = prefixes[random.nextInt(prefixes.length)] + ids[i]
+                    + suffixes[random.nextInt(suffixes.length)];
+        }
+        return fileNames;
+    }
+
+    /**
+     * 生成包含ID的报文正文，ID前后夹杂电话号码、时间戳等较短的数字串
+     */
+    public static String[] dataContents() {
+        String[] ids = ids();
+        Random random = new Random(11L);
+        String[] contents = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            StringBuilder sb = new StringBuilder(256);
+            sb.append("{\"reporter\":\"张三\",\"phone\":\"1")
+                    .append(10_000_000_00L + random.nextInt(900_000_000))
+                    .append("\",\"time\":\"2024-01-15 10:30:00\",\"text\":\"");
+            int paddingLength = 20 + random.nextInt(120);
+            for (int j = 0; j < paddingLength; j++) {
+                sb.append("房屋倒塌受灾人数统计".charAt(random.nextInt(10)));
+            }
+            sb.append("\",\"seq\":").append(random.nextInt(1_000_000))
+                    .append(",\"disasterId\":\"").append(ids[i]).append("\"}");
+            contents[i] = sb.toString();
+        }
+        return contents;
+    }
+
+    private static String randomId(Random random) {
+        StringBuilder sb = new StringBuilder(36);
+        sb.append(DISTRICTS[random.nextInt(DISTRICTS.length)]);
+        appendDigits(sb, 1 + random.nextInt(300), 3);
+        appendDigits(sb, 1 + random.nextInt(400), 3);
+
+        appendDigits(sb, 2008 + random.nextInt(18), 4);
+        appendDigits(sb, 1 + random.nextInt(12), 2);
+        appendDigits(sb, 1 + random.nextInt(28), 2);
+        appendDigits(sb, random.nextInt(24), 2);
+        appendDigits(sb, random.nextInt(60), 2);
+        appendDigits(sb, random.nextInt(60), 2);
+
+        sb.append(random.nextInt(2));
+        appendDigits(sb, 1 + random.nextInt(7), 2);
+        sb.append(random.nextInt(4));
+
+        int category = 1 + random.nextInt(5);
+        sb.append(category);
+        appendDigits(sb, 1 + random.nextInt(SUBCATEGORY_COUNT[category]), 2);
+        appendDigits(sb, 1 + random.nextInt(category == 2 ? 2 : 3), 3);
+        return sb.toString();
+    }
+
+    private static void appendDigits(StringBuilder sb, int value, int width) {
+        String digits = Integer.toString(value);
+        for (int i = digits.length(); i < width; i++) {
+            sb.append('0');
+        }
+        sb.append(digits);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.module.benchmark;
+
+import com.example.module.util.DisasterIdScanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 从文件名、报文正文中提取36位ID的性能（文件解码和数据处理服务均通过 DisasterIdScanner 提取）
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class IdExtractionBenchmark {
+
+    private String[] fileNames;
+    private String[] dataContents;
+    private int index;
+
+    @Setup
+    public void setup() {
+        fileNames = IdCorpus.fileNames();
+        dataContents = IdCorpus.dataContents();
+    }
+
+    private int next() {
+        index = (index + 1) & IdCorpus.MASK;
+        return index;
+    }
+
+    @Benchmark
+    public String fileNameExtraction() {
+        return DisasterIdScanner.findFirst(fileNames[next()]);
+    }
+
+    @Benchmark
+    public String dataContentExtraction() {
+        return DisasterIdScanner.findFirst(dataContents[next()]);
+    }
+}
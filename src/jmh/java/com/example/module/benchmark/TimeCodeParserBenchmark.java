@@ -0,0 +1,49 @@
+package com.example.module.benchmark;
+
+import com.example.module.util.TimeCodeParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 时间码解析性能
+ * 对比每次新建 DateTimeFormatter 的原解析方式与整数运算解析
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class TimeCodeParserBenchmark {
+
+    private String[] ids;
+    private int index;
+
+    @Setup
+    public void setup() {
+        ids = IdCorpus.ids();
+    }
+
+    private String nextId() {
+        index = (index + 1) & IdCorpus.MASK;
+        return ids[index];
+    }
+
+    @Benchmark
+    public LocalDateTime formatterParse() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+        return LocalDateTime.parse(nextId().substring(12, 26), formatter);
+    }
+
+    @Benchmark
+    public long epochSecond() {
+        return TimeCodeParser.toEpochSecond(nextId(), 12);
+    }
+
+    @Benchmark
+    public LocalDateTime integerParse() {
+        return TimeCodeParser.parse(nextId().substring(12, 26));
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.module.config;
+
+import com.example.module.util.AdminDivisionIndex;
+import com.example.module.util.ReverseGeocodeIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 离线行政区划数据配置
+ * 启动时加载行政区划数据文件构建前缀树，加载失败时使用空索引（定位全部回退到高德API）；
+ * 同时以各行政区划中心点构建逆地理编码索引
+ */
+@Slf4j
+@Configuration
+public class AdminDivisionConfig {
+
+    @Value("${disaster.geo.division-data:classpath:geo/admin-divisions.csv}")
+    private String divisionData;
+
+    @Bean
+    public AdminDivisionIndex adminDivisionIndex(ResourceLoader resourceLoader) {
+        Resource resource = resourceLoader.getResource(divisionData);
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            AdminDivisionIndex index = AdminDivisionIndex.load(reader);
+            log.info("行政区划数据加载完成：版本{}，共{}条，来源{}", index.getVersion(), index.size(), divisionData);
+            return index;
+        } catch (Exception e) {
+            log.error("行政区划数据加载失败（{}），离线定位不可用: {}", divisionData, e.getMessage());
+            return AdminDivisionIndex.empty();
+        }
+    }
+
+    @Bean
+    public ReverseGeocodeIndex reverseGeocodeIndex(AdminDivisionIndex adminDivisionIndex) {
+        ReverseGeocodeIndex index = ReverseGeocodeIndex.build(adminDivisionIndex.getDivisions());
+        log.info("逆地理编码索引构建完成：共{}个中心点", index.size());
+        return index;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.module.config;
+
+import com.example.module.util.ParallelBatchExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 批量解码并行执行配置
+ * 使用独立的有界 ForkJoinPool，不占用公共池，避免与其他并行流互相影响
+ */
+@Slf4j
+@Configuration
+public class BatchExecutorConfig {
+
+    @Value("${disaster.batch.parallel-enabled:true}")
+    private boolean parallelEnabled;
+
+    @Value("${disaster.batch.parallelism:0}")
+    private int parallelism;
+
+    @Value("${disaster.batch.parallel-threshold:512}")
+    private int parallelThreshold;
+
+    @Bean(destroyMethod = "shutdown")
+    public ParallelBatchExecutor batchDecodeExecutor() {
+        if (!parallelEnabled) {
+            log.info("批量解码并行模式已关闭");
+            return ParallelBatchExecutor.sequential();
+        }
+
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(threads, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("batch-decode-" + counter.incrementAndGet());
+            return thread;
+        }, null, false);
+        log.info("批量解码并行模式已开启：并行度{}，阈值{}", threads, parallelThreshold);
+        return new ParallelBatchExecutor(pool, parallelThreshold);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.module.config;
+
+import com.example.module.util.DecodedIdCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 解码结果缓存配置
+ */
+@Slf4j
+@Configuration
+public class DecodeCacheConfig {
+
+    @Value("${disaster.decode-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${disaster.decode-cache.maximum-size:10000}")
+    private int maximumSize;
+
+    @Value("${disaster.decode-cache.concurrency:16}")
+    private int concurrency;
+
+    @Bean
+    public DecodedIdCache decodedIdCache() {
+        if (!enabled || maximumSize <= 0) {
+            log.info("解码缓存已关闭");
+            return DecodedIdCache.disabled();
+        }
+        log.info("解码缓存已开启：最大{}条，分段数{}", maximumSize, concurrency);
+        return new DecodedIdCache(maximumSize, concurrency);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.module.config;
+
+import com.example.module.util.CircuitBreaker;
+import com.example.module.util.FanOutExecutor;
+import com.example.module.util.ProviderGuard;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 远程地理查询配置
+ * 高德API调用使用带连接池、长连接复用和超时设置的 HttpClient；
+ * 各级行政区划查询在独立的有界线程池中并发执行，不占用请求线程；
+ * 所有高德API调用经舱壁和熔断器保护，高德API变慢或故障时不会占满调用线程。
+ */
+@Slf4j
+@Configuration
+public class GeoLookupConfig {
+
+    @Value("${disaster.geo.http.max-total:50}")
+    private int maxTotal;
+
+    @Value("${disaster.geo.http.max-per-route:20}")
+    private int maxPerRoute;
+
+    @Value("${disaster.geo.http.connect-timeout:2000}")
+    private int connectTimeout;
+
+    @Value("${disaster.geo.http.read-timeout:3000}")
+    private int readTimeout;
+
+    @Value("${disaster.geo.http.connection-request-timeout:1000}")
+    private int connectionRequestTimeout;
+
+    @Value("${disaster.geo.http.idle-timeout:30000}")
+    private long idleTimeout;
+
+    @Value("${disaster.geo.lookup.threads:8}")
+    private int lookupThreads;
+
+    @Value("${disaster.geo.lookup.queue-capacity:256}")
+    private int lookupQueueCapacity;
+
+    @Value("${disaster.geo.enrichment.lookup-threads:2}")
+    private int enrichmentLookupThreads;
+
+    @Value("${disaster.geo.guard.max-concurrent:20}")
+    private int guardMaxConcurrent;
+
+    @Value("${disaster.geo.guard.max-wait:100}")
+    private long guardMaxWait;
+
+    @Value("${disaster.geo.guard.window-size:20}")
+    private int breakerWindowSize;
+
+    @Value("${disaster.geo.guard.minimum-calls:10}")
+    private int breakerMinimumCalls;
+
+    @Value("${disaster.geo.guard.failure-rate:0.5}")
+    private double breakerFailureRate;
+
+    @Value("${disaster.geo.guard.open-duration:30000}")
+    private long breakerOpenDuration;
+
+    @Value("${disaster.geo.guard.half-open-calls:3}")
+    private int breakerHalfOpenCalls;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient amapHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setSocketTimeout(readTimeout)
+                .setConnectionRequestTimeout(connectionRequestTimeout)
+                .build();
+        log.info("高德API连接池：最大连接{}，单路由{}，连接超时{}ms，读取超时{}ms",
+                maxTotal, maxPerRoute, connectTimeout, readTimeout);
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                .evictExpiredConnections()
+                .evictIdleConnections(idleTimeout, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Bean
+    public RestTemplate amapRestTemplate(CloseableHttpClient amapHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(amapHttpClient));
+    }
+
+    @Bean
+    public ProviderGuard amapProviderGuard() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(breakerWindowSize, breakerMinimumCalls,
+                breakerFailureRate, breakerOpenDuration, breakerHalfOpenCalls);
+        log.info("高德API调用保护：最大并发{}，熔断失败率{}，熔断时长{}ms",
+                guardMaxConcurrent, breakerFailureRate, breakerOpenDuration);
+        return new ProviderGuard("高德API", guardMaxConcurrent, guardMaxWait, circuitBreaker);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public FanOutExecutor geoLookupExecutor() {
+        log.info("地理查询线程池：线程数{}，队列容量{}", lookupThreads, lookupQueueCapacity);
+        return new FanOutExecutor(newLookupPool("geo-lookup-", lookupThreads, lookupQueueCapacity), lookupThreads);
+    }
+
+    /**
+     * 地理信息后台补全使用的独立线程池，按批定位时不与交互查询争用 geoLookupExecutor 的线程
+     */
+    @Bean(destroyMethod = "shutdown")
+    public FanOutExecutor geoEnrichmentExecutor() {
+        log.info("地理补全查询线程池：线程数{}", enrichmentLookupThreads);
+        return new FanOutExecutor(newLookupPool("geo-enrichment-lookup-", enrichmentLookupThreads, enrichmentLookupThreads),
+                enrichmentLookupThreads);
+    }
+
+    private static ThreadPoolExecutor newLookupPool(String namePrefix, int threads, int queueCapacity) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, namePrefix + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
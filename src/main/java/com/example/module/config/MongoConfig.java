@@ -11,6 +11,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.config.AbstractMongoClientConfiguration;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
 import java.util.Collection;
@@ -44,7 +45,20 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
     public Collection<String> getMappingBasePackages() {
         return Collections.singleton("com.example.module.entity.mongodb");
     }
-    
+
+    @Override
+    protected boolean autoIndexCreation() {
+        // 启动时按实体上的 @Indexed 创建索引（已存在的索引不会重复创建）；
+        // raw_data 的索引由 DataIndexService 在后台统一校正，实体上不再声明
+        return true;
+    }
+
+    @Override
+    protected void configureConverters(MongoCustomConversions.MongoConverterConfigurationAdapter adapter) {
+        // 36位灾情ID的16字节压缩形式 <-> Binary
+        adapter.registerConverters(PackedDisasterIdConverters.getConverters());
+    }
+
     @Bean
     public GridFSBucket gridFSBucket() {
         MongoDatabase database = mongoClient().getDatabase(databaseName);
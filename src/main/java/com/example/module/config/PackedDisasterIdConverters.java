@@ -0,0 +1,57 @@
+package com.example.module.config;
+
+import com.example.module.util.PackedDisasterId;
+import org.bson.BsonBinarySubType;
+import org.bson.types.Binary;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * PackedDisasterId 与 MongoDB Binary 之间的转换器
+ * 以16字节通用二进制（subtype 0）存储，字节序与ID的字典序一致；
+ * 读取时兼容改为 Binary 之前以36位字符串存储的数据（由 RawDataBackfillRunner 在后台转换）
+ */
+public final class PackedDisasterIdConverters {
+
+    private PackedDisasterIdConverters() {
+    }
+
+    public static List<Converter<?, ?>> getConverters() {
+        return Arrays.asList(PackedDisasterIdToBinaryConverter.INSTANCE, BinaryToPackedDisasterIdConverter.INSTANCE,
+                StringToPackedDisasterIdConverter.INSTANCE);
+    }
+
+    @WritingConverter
+    enum PackedDisasterIdToBinaryConverter implements Converter<PackedDisasterId, Binary> {
+        INSTANCE;
+
+        @Override
+        public Binary convert(PackedDisasterId source) {
+            return new Binary(BsonBinarySubType.BINARY, source.toBytes());
+        }
+    }
+
+    @ReadingConverter
+    enum BinaryToPackedDisasterIdConverter implements Converter<Binary, PackedDisasterId> {
+        INSTANCE;
+
+        @Override
+        public PackedDisasterId convert(Binary source) {
+            return PackedDisasterId.fromBytes(source.getData());
+        }
+    }
+
+    @ReadingConverter
+    enum StringToPackedDisasterIdConverter implements Converter<String, PackedDisasterId> {
+        INSTANCE;
+
+        @Override
+        public PackedDisasterId convert(String source) {
+            return PackedDisasterId.pack(source);
+        }
+    }
+}
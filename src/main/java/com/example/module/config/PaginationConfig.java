@@ -0,0 +1,47 @@
+package com.example.module.config;
+
+import com.example.module.entity.mongodb.RawData;
+import com.example.module.util.FieldProjector;
+import com.example.module.util.KeysetPager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * 列表接口分页配置
+ * MongoDB 集合的列表接口统一使用游标分页，每页条数受 max-size 限制
+ */
+@Configuration
+public class PaginationConfig {
+
+    /**
+     * 原始数据列表视图：表格展示用的解码字段，不含 dataContent、content 等大字段
+     */
+    public static final String SUMMARY_VIEW = "summary";
+
+    @Value("${disaster.pagination.default-size:20}")
+    private int defaultSize;
+
+    @Value("${disaster.pagination.max-size:500}")
+    private int maxSize;
+
+    @Bean
+    public KeysetPager keysetPager(MongoTemplate mongoTemplate) {
+        return new KeysetPager(mongoTemplate, defaultSize, maxSize);
+    }
+
+    /**
+     * 列表接口的字段投影（view / fields 参数）
+     */
+    @Bean
+    public FieldProjector fieldProjector(MongoTemplate mongoTemplate) {
+        return new FieldProjector(mongoTemplate.getConverter().getMappingContext())
+                .registerView(RawData.class, SUMMARY_VIEW,
+                        "dataType", "source", "processed", "createTime", "moduleId",
+                        "disasterId", "disasterCategory", "disasterSubcategory", "disasterIndicator",
+                        "sourceCategory", "sourceSubcategory", "carrierType", "disasterDateTime",
+                        "geoCode", "provinceName", "cityName", "districtName", "formattedAddress", "location",
+                        "decodedDescription");
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.module.config;
+
+import com.example.module.entity.mongodb.RawData;
+import com.example.module.util.AdminDivisionIndex;
+import com.example.module.util.TimeCodeParser;
+import com.mongodb.bulk.BulkWriteResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 启动后在后台补全旧数据的派生字段（不阻塞启动）
+ * - disaster_epoch_second：该字段引入前写入的数据只有 disaster_date_time，按纪元秒范围查询时会被漏掉
+ * - geo_province / geo_city / geo_district：该字段引入前写入的数据按行政区划层级查询时会被漏掉
+ * - location：该字段引入前写入的数据不会出现在空间范围查询结果中，按地理码取离线行政区划数据中最深一级的中心点
+ * - disaster_id：改为16字节 Binary 存储之前写入的36位字符串转换为 Binary，按灾情ID查询时才能命中
+ *
+ * 按 _id 顺序分批读取待处理的数据（只读取 _id 和来源字段），每批用批量 $set 只写入目标字段；
+ * 更新条件同样要求数据仍待处理，不会覆盖期间由接口写入的数据。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RawDataBackfillRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final AdminDivisionIndex adminDivisionIndex;
+
+    @Value("${disaster.backfill.enabled:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            log.info("旧数据派生字段补全已关闭");
+            return;
+        }
+        Thread thread = new Thread(this::backfillAll, "raw-data-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void backfillAll() {
+        backfill("灾情ID Binary", Criteria.where("disaster_id").type(JsonSchemaObject.Type.stringType()),
+                rawData -> rawData.getDisasterId() == null ? null
+                        : Update.update("disaster_id", rawData.getDisasterId()),
+                "disaster_id");
+        backfill("灾情时间纪元秒", missing("disaster_epoch_second", Criteria.where("disaster_date_time").ne(null)),
+                rawData -> rawData.getDisasterDateTime() == null ? null
+                        : Update.update("disaster_epoch_second", TimeCodeParser.toEpochSecond(rawData.getDisasterDateTime())),
+                "disaster_date_time");
+        // 只按类型过滤（可利用 geo_code 索引），长度在读取后判断：其他长度的地理码不生成前缀，按 _id 顺序遍历只会经过一次
+        backfill("地理码层级前缀", missing("geo_province", Criteria.where("geo_code").type(JsonSchemaObject.Type.stringType())),
+                rawData -> {
+                    String geoCode = rawData.getGeoCode();
+                    if (geoCode == null || geoCode.length() != 12) {
+                        return null;
+                    }
+                    return Update.update("geo_province", geoCode.substring(0, 2))
+                            .set("geo_city", geoCode.substring(0, 4))
+                            .set("geo_district", geoCode.substring(0, 6));
+                },
+                "geo_code");
+        // 离线数据中没有带中心点的上级行政区划时跳过，由地理信息异步补全写入
+        backfill("灾情位置", missing("location", Criteria.where("geo_code").type(JsonSchemaObject.Type.stringType())),
+                rawData -> {
+                    AdminDivisionIndex.Division division = rawData.getGeoCode() == null ? null
+                            : adminDivisionIndex.deepestWithCenter(rawData.getGeoCode());
+                    return division == null ? null
+                            : Update.update("location", new GeoJsonPoint(division.getLongitude(), division.getLatitude()));
+                },
+                "geo_code");
+    }
+
+    /**
+     * 缺少 targetField 且来源字段满足条件的数据
+     */
+    private static Criteria missing(String targetField, Criteria source) {
+        return new Criteria().andOperator(Criteria.where(targetField).exists(false), source);
+    }
+
+    /**
+     * 按 _id 顺序分批处理满足 pending 条件的数据，一次遍历完成（每批从上一批最后一条之后继续）
+     *
+     * @param pending      待处理数据的条件，写入时同样作为更新条件
+     * @param updater      按读取到的来源字段计算更新，返回null时跳过该条
+     * @param sourceFields 需要读取的来源字段
+     */
+    private void backfill(String fieldName, Criteria pending, Function<RawData, Update> updater,
+                          String... sourceFields) {
+        long total = 0;
+        try {
+            String lastId = null;
+            List<RawData> batch;
+            do {
+                Criteria criteria = lastId == null ? pending
+                        : new Criteria().andOperator(pending, Criteria.where("_id").gt(lastId));
+                Query query = new Query(criteria).with(Sort.by(Sort.Direction.ASC, "_id")).limit(BATCH_SIZE);
+                query.fields().include(sourceFields);
+                batch = mongoTemplate.find(query, RawData.class);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                lastId = batch.get(batch.size() - 1).getId();
+                total += update(batch, pending, updater);
+            } while (batch.size() == BATCH_SIZE);
+            if (total > 0) {
+                log.info("已为{}条旧数据补全{}字段", total, fieldName);
+            }
+        } catch (Exception e) {
+            log.error("补全{}字段失败（已处理{}条）: {}", fieldName, total, e.getMessage());
+        }
+    }
+
+    private int update(List<RawData> batch, Criteria pending, Function<RawData, Update> updater) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RawData.class);
+        int updates = 0;
+        for (RawData rawData : batch) {
+            Update update = updater.apply(rawData);
+            if (update != null) {
+                operations.updateOne(Query.query(new Criteria().andOperator(Criteria.where("_id").is(rawData.getId()), pending)),
+                        update);
+                updates++;
+            }
+        }
+        if (updates == 0) {
+            return 0;
+        }
+        BulkWriteResult result = operations.execute();
+        return result.getModifiedCount();
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.module.config;
 
+import com.example.module.service.CodeDictionaryService;
 import com.example.module.service.DataEvictionService;
+import com.example.module.util.Result;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Component;
 public class ScheduledTaskConfig {
     
     private final DataEvictionService dataEvictionService;
+    private final CodeDictionaryService codeDictionaryService;
     
     /**
      * 每天凌晨2点执行数据清理任务
@@ -30,6 +33,19 @@ public class ScheduledTaskConfig {
         }
     }
     
+    /**
+     * 启动后立即加载灾情编码字典，之后定期检查 data_encoding_rule 是否有变化
+     * 在调度线程中执行，加载失败时继续使用当前字典
+     */
+    @Scheduled(initialDelayString = "${disaster.code-dictionary.initial-delay:0}",
+            fixedDelayString = "${disaster.code-dictionary.reload-interval:60000}")
+    public void scheduledReloadCodeDictionary() {
+        Result<CodeDictionaryService.DictionaryStatus> result = codeDictionaryService.reload();
+        if (result.getCode() != 200) {
+            log.warn("定时加载编码字典失败: {}", result.getMessage());
+        }
+    }
+    
     /**
      * 每小时执行一次数据清理任务（可选，用于测试）
      * 生产环境建议使用每天执行一次
@@ -0,0 +1,34 @@
+package com.example.module.controller;
+
+import com.example.module.service.CodeDictionaryService;
+import com.example.module.util.Result;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 灾情编码字典管理控制器
+ * 查看当前字典版本，或在修改 data_encoding_rule 后立即重新加载
+ */
+@RestController
+@RequestMapping("/api/code-dictionary")
+@RequiredArgsConstructor
+public class CodeDictionaryController {
+
+    private final CodeDictionaryService codeDictionaryService;
+
+    /**
+     * 获取当前字典状态
+     */
+    @GetMapping("/status")
+    public Result<CodeDictionaryService.DictionaryStatus> getStatus() {
+        return codeDictionaryService.getStatus();
+    }
+
+    /**
+     * 重新加载编码字典
+     */
+    @PostMapping("/reload")
+    public Result<CodeDictionaryService.DictionaryStatus> reload() {
+        return codeDictionaryService.reload();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.module.controller;
+
+import com.example.module.service.DataIndexService;
+import com.example.module.util.Result;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/data-index")
+@RequiredArgsConstructor
+public class DataIndexController {
+    
+    private final DataIndexService dataIndexService;
+    
+    /**
+     * raw_data 受管索引状态及最近一次校正结果
+     */
+    @GetMapping("/raw-data")
+    public Result<DataIndexService.IndexReport> getRawDataIndexes() {
+        return dataIndexService.getIndexReport();
+    }
+    
+    /**
+     * 在后台重新校正 raw_data 受管索引
+     */
+    @PostMapping("/raw-data/reconcile")
+    public Result<Boolean> reconcileRawDataIndexes() {
+        if (!dataIndexService.reconcileAsync()) {
+            return Result.error(409, "索引校正正在进行中");
+        }
+        return Result.success(true);
+    }
+    
+    /**
+     * 各查询形态的执行计划：使用的索引、扫描的索引键数和文档数
+     */
+    @GetMapping("/raw-data/explain")
+    public Result<List<DataIndexService.QueryPlan>> explainRawDataQueries() {
+        return dataIndexService.explainQueryShapes();
+    }
+}
@@ -2,80 +2,284 @@ package com.example.module.controller;
 
 import com.example.module.entity.mongodb.RawData;
 import com.example.module.service.DisasterDataQueryService;
+import com.example.module.util.CursorPage;
+import com.example.module.util.CursorRequest;
+import com.example.module.util.FieldProjector;
 import com.example.module.util.Result;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * 灾情数据查询控制器
  * 提供基于解码后字段的数据查询接口
+ * 列表查询默认返回完整数据；view=summary 返回列表展示字段，fields=a,b 只返回所列字段（优先于 view）
  */
 @RestController
 @RequestMapping("/api/disaster-data")
 @RequiredArgsConstructor
 public class DisasterDataQueryController {
 
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
+    private static final DateTimeFormatter EXPORT_FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
     private final DisasterDataQueryService disasterDataQueryService;
+    private final FieldProjector fieldProjector;
 
     /**
      * 根据灾害大类查询
      */
     @GetMapping("/category/{category}")
-    public Result<List<RawData>> queryByCategory(@PathVariable String category) {
-        return disasterDataQueryService.queryByDisasterCategory(category);
+    public Result<CursorPage<?>> queryByCategory(
+            @PathVariable String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        return disasterDataQueryService.queryByDisasterCategory(category, new CursorRequest(cursor, size, count),
+                fieldProjector.resolve(RawData.class, view, fields));
     }
 
     /**
      * 根据灾害子类查询
      */
     @GetMapping("/subcategory/{subcategory}")
-    public Result<List<RawData>> queryBySubcategory(@PathVariable String subcategory) {
-        return disasterDataQueryService.queryByDisasterSubcategory(subcategory);
+    public Result<CursorPage<?>> queryBySubcategory(
+            @PathVariable String subcategory,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        return disasterDataQueryService.queryByDisasterSubcategory(subcategory, new CursorRequest(cursor, size, count),
+                fieldProjector.resolve(RawData.class, view, fields));
     }
 
     /**
      * 根据来源查询
      */
     @GetMapping("/source/{source}")
-    public Result<List<RawData>> queryBySource(@PathVariable String source) {
-        return disasterDataQueryService.queryBySource(source);
+    public Result<CursorPage<?>> queryBySource(
+            @PathVariable String source,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        return disasterDataQueryService.queryBySource(source, new CursorRequest(cursor, size, count),
+                fieldProjector.resolve(RawData.class, view, fields));
     }
 
     /**
      * 根据载体类型查询
      */
     @GetMapping("/carrier/{carrierType}")
-    public Result<List<RawData>> queryByCarrierType(@PathVariable String carrierType) {
-        return disasterDataQueryService.queryByCarrierType(carrierType);
+    public Result<CursorPage<?>> queryByCarrierType(
+            @PathVariable String carrierType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        return disasterDataQueryService.queryByCarrierType(carrierType, new CursorRequest(cursor, size, count),
+                fieldProjector.resolve(RawData.class, view, fields));
     }
 
     /**
      * 根据地理码查询
      */
     @GetMapping("/geo/{geoCode}")
-    public Result<List<RawData>> queryByGeoCode(@PathVariable String geoCode) {
-        return disasterDataQueryService.queryByGeoCode(geoCode);
+    public Result<CursorPage<?>> queryByGeoCode(
+            @PathVariable String geoCode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        return disasterDataQueryService.queryByGeoCode(geoCode, new CursorRequest(cursor, size, count),
+                fieldProjector.resolve(RawData.class, view, fields));
+    }
+
+    /**
+     * 按行政区划层级查询（省、市、县区、乡镇、村任意层级，按灾情时间倒序游标分页）
+     */
+    @GetMapping("/geo-prefix/{code}")
+    public Result<CursorPage<?>> queryByGeoPrefix(
+            @PathVariable String code,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(defaultValue = "false") boolean countOnly,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        return disasterDataQueryService.queryByGeoPrefix(code, new CursorRequest(cursor, size, count), countOnly,
+                fieldProjector.resolve(RawData.class, view, fields));
+    }
+
+    /**
+     * 矩形范围查询（按 _id 倒序游标分页）
+     */
+    @GetMapping("/spatial/bbox")
+    public Result<CursorPage<?>> queryByBoundingBox(
+            @RequestParam double minLongitude,
+            @RequestParam double minLatitude,
+            @RequestParam double maxLongitude,
+            @RequestParam double maxLatitude,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        return disasterDataQueryService.queryByBoundingBox(minLongitude, minLatitude, maxLongitude, maxLatitude,
+                spatialParams(category, start, end, cursor, size, count), fieldProjector.resolve(RawData.class, view, fields));
+    }
+
+    /**
+     * 圆形范围查询（按 _id 倒序游标分页）
+     */
+    @GetMapping("/spatial/radius")
+    public Result<CursorPage<?>> queryByRadius(
+            @RequestParam double longitude,
+            @RequestParam double latitude,
+            @RequestParam double radiusKm,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        return disasterDataQueryService.queryByRadius(longitude, latitude, radiusKm,
+                spatialParams(category, start, end, cursor, size, count), fieldProjector.resolve(RawData.class, view, fields));
+    }
+
+    /**
+     * 多边形范围查询（按 _id 倒序游标分页）
+     */
+    @PostMapping("/spatial/polygon")
+    public Result<CursorPage<?>> queryByPolygon(@RequestBody PolygonQueryRequest request,
+                                                @RequestParam(required = false) String view,
+                                                @RequestParam(required = false) String fields) {
+        return disasterDataQueryService.queryByPolygon(request.getCoordinates(),
+                spatialParams(request.getDisasterCategory(), request.getStartTime(), request.getEndTime(),
+                        request.getCursor(), request.getSize(), request.isCount()),
+                fieldProjector.resolve(RawData.class, view, fields));
+    }
+
+    private static DisasterDataQueryService.SpatialQueryParams spatialParams(String category, LocalDateTime start,
+                                                                            LocalDateTime end, String cursor,
+                                                                            Integer size, boolean count) {
+        DisasterDataQueryService.SpatialQueryParams params = new DisasterDataQueryService.SpatialQueryParams();
+        params.setDisasterCategory(category);
+        params.setStartTime(start);
+        params.setEndTime(end);
+        params.setCursor(cursor);
+        params.setSize(size);
+        params.setCount(count);
+        return params;
     }
 
     /**
      * 根据时间范围查询
      */
     @GetMapping("/time-range")
-    public Result<List<RawData>> queryByTimeRange(
+    public Result<CursorPage<?>> queryByTimeRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
-        return disasterDataQueryService.queryByTimeRange(start, end);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        return disasterDataQueryService.queryByTimeRange(start, end, new CursorRequest(cursor, size, count),
+                fieldProjector.resolve(RawData.class, view, fields));
     }
 
     /**
-     * 综合查询
+     * 综合查询（分页）
      */
     @PostMapping("/query")
-    public Result<List<RawData>> queryByMultipleConditions(@RequestBody DisasterDataQueryController.QueryRequest request) {
+    public Result<Page<?>> queryByMultipleConditions(@RequestBody DisasterDataQueryController.QueryRequest request,
+                                                     @RequestParam(required = false) String view,
+                                                     @RequestParam(required = false) String fields) {
+        return disasterDataQueryService.queryByMultipleConditions(queryParams(request),
+                fieldProjector.resolve(RawData.class, view, fields));
+    }
+
+    /**
+     * 流式导出综合查询的全部结果，条件与综合查询相同（通过查询参数传入）
+     * 
+     * @param format 导出格式：ndjson（默认）或 csv
+     * @param gzip 为true时边写边压缩，下载文件为 .gz
+     */
+    @GetMapping("/export")
+    public void exportByConditions(
+            QueryRequest request,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+        export(request, format, gzip, response);
+    }
+
+    /**
+     * 流式导出综合查询的全部结果，条件与综合查询相同（通过请求体传入）
+     */
+    @PostMapping("/export")
+    public void exportByConditionsWithBody(
+            @RequestBody QueryRequest request,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+        export(request, format, gzip, response);
+    }
+
+    /**
+     * 参数在开始写出前校验（错误时按普通请求返回400），之后从数据库游标边读边写
+     * 在请求线程中同步写出，不受 spring.mvc.async.request-timeout 限制，导出耗时只取决于数据量和客户端读取速度；
+     * 读取数据库中途出错时由服务在末尾写出错误行
+     */
+    private void export(QueryRequest request, String format, boolean gzip, HttpServletResponse response)
+            throws IOException {
+        DisasterDataQueryService.ExportFormat exportFormat = DisasterDataQueryService.ExportFormat.of(format);
+        DisasterDataQueryService.DisasterQueryParams params = queryParams(request);
+        if (params.getStartTime() != null && params.getEndTime() != null
+                && params.getStartTime().isAfter(params.getEndTime())) {
+            throw new IllegalArgumentException("开始时间不能晚于结束时间");
+        }
+
+        String fileName = "disaster-data-" + LocalDateTime.now().format(EXPORT_FILE_TIME) + "." + exportFormat.getExtension();
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName + (gzip ? ".gz" : ""));
+        response.setContentType(gzip ? "application/gzip" : exportFormat.getContentType() + ";charset=UTF-8");
+        OutputStream outputStream = response.getOutputStream();
+        if (gzip) {
+            // syncFlush：定期刷新时已压缩的数据立即发给客户端
+            GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, EXPORT_BUFFER_SIZE, true);
+            disasterDataQueryService.exportByMultipleConditions(params, exportFormat, gzipStream);
+            gzipStream.finish();
+            gzipStream.flush();
+        } else {
+            disasterDataQueryService.exportByMultipleConditions(params, exportFormat, outputStream);
+            outputStream.flush();
+        }
+    }
+
+    private static DisasterDataQueryService.DisasterQueryParams queryParams(QueryRequest request) {
         DisasterDataQueryService.DisasterQueryParams params = new DisasterDataQueryService.DisasterQueryParams();
         params.setDisasterCategory(request.getDisasterCategory());
         params.setDisasterSubcategory(request.getDisasterSubcategory());
@@ -86,7 +290,7 @@ public class DisasterDataQueryController {
         params.setEndTime(request.getEndTime());
         params.setPage(request.getPage());
         params.setSize(request.getSize());
-        return disasterDataQueryService.queryByMultipleConditions(params);
+        return params;
     }
 
     /**
@@ -186,5 +390,73 @@ public class DisasterDataQueryController {
             this.size = size;
         }
     }
-}
 
+    /**
+     * 多边形范围查询请求体
+     */
+    public static class PolygonQueryRequest {
+        private List<double[]> coordinates;
+        private String disasterCategory;
+        private LocalDateTime startTime;
+        private LocalDateTime endTime;
+        private String cursor;
+        private Integer size;
+        private boolean count;
+
+        public List<double[]> getCoordinates() {
+            return coordinates;
+        }
+
+        public void setCoordinates(List<double[]> coordinates) {
+            this.coordinates = coordinates;
+        }
+
+        public String getDisasterCategory() {
+            return disasterCategory;
+        }
+
+        public void setDisasterCategory(String disasterCategory) {
+            this.disasterCategory = disasterCategory;
+        }
+
+        public LocalDateTime getStartTime() {
+            return startTime;
+        }
+
+        public void setStartTime(LocalDateTime startTime) {
+            this.startTime = startTime;
+        }
+
+        public LocalDateTime getEndTime() {
+            return endTime;
+        }
+
+        public void setEndTime(LocalDateTime endTime) {
+            this.endTime = endTime;
+        }
+
+        public String getCursor() {
+            return cursor;
+        }
+
+        public void setCursor(String cursor) {
+            this.cursor = cursor;
+        }
+
+        public Integer getSize() {
+            return size;
+        }
+
+        public void setSize(Integer size) {
+            this.size = size;
+        }
+
+        public boolean isCount() {
+            return count;
+        }
+
+        public void setCount(boolean count) {
+            this.count = count;
+        }
+    }
+}
@@ -2,13 +2,21 @@ package com.example.module.controller;
 
 import com.example.module.service.DisasterDecodeService;
 import com.example.module.service.FileDecodeService;
+import com.example.module.service.GeoCacheService;
+import com.example.module.service.GeoEnrichmentService;
 import com.example.module.service.GeoLocationService;
 import com.example.module.util.DecodedId;
+import com.example.module.util.DecodedIdCache;
+import com.example.module.util.ProviderGuard;
 import com.example.module.util.Result;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -23,6 +31,8 @@ public class DisasterDecodeController {
     private final DisasterDecodeService disasterDecodeService;
     private final GeoLocationService geoLocationService;
     private final FileDecodeService fileDecodeService;
+    private final GeoCacheService geoCacheService;
+    private final GeoEnrichmentService geoEnrichmentService;
 
     /**
      * 解码单个ID
@@ -46,6 +56,22 @@ public class DisasterDecodeController {
         return disasterDecodeService.batchDecodeIds(request.getIds());
     }
 
+    /**
+     * 流式批量解码ID
+     * 请求体为换行分隔的ID，响应为NDJSON（每行一个解码结果，最后一行为汇总），
+     * 边读边写，适合百万级ID的批量解码；在请求线程中同步读写，不受异步请求超时限制，耗时只取决于上传和下载速度
+     * 
+     * @param request 原始请求（读取请求体输入流）
+     * @param response 原始响应（写出NDJSON格式的解码结果流）
+     */
+    @PostMapping(value = "/decode/stream", produces = "application/x-ndjson")
+    public void streamDecodeIds(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        OutputStream outputStream = response.getOutputStream();
+        disasterDecodeService.streamDecodeIds(request.getInputStream(), outputStream);
+        outputStream.flush();
+    }
+
     /**
      * 验证ID格式
      * 
@@ -57,6 +83,26 @@ public class DisasterDecodeController {
         return disasterDecodeService.validateId(id);
     }
 
+    /**
+     * 获取解码缓存统计
+     * 
+     * @return 缓存容量、当前条数、命中/未命中/淘汰次数及命中率
+     */
+    @GetMapping("/cache/stats")
+    public Result<DecodedIdCache.Stats> getCacheStats() {
+        return disasterDecodeService.getCacheStats();
+    }
+
+    /**
+     * 清空解码缓存
+     * 
+     * @return 清空后的缓存统计
+     */
+    @PostMapping("/cache/clear")
+    public Result<DecodedIdCache.Stats> clearCache() {
+        return disasterDecodeService.clearCache();
+    }
+
     /**
      * 根据地理码获取地理位置信息
      * 
@@ -80,6 +126,18 @@ public class DisasterDecodeController {
         return geoLocationService.locateByGeoCode(geoCode);
     }
 
+    /**
+     * 批量地理码定位
+     * 相同的省、市、县区、乡镇前缀只解析一次，适合地图视图一次刷新大量地理码
+     * 
+     * @param request 包含地理码列表的请求体
+     * @return 定位结果列表
+     */
+    @PostMapping("/geo/locate/batch")
+    public Result<List<GeoLocationService.GeoLocationInfo>> batchLocateByGeoCodes(@RequestBody BatchLocateRequest request) {
+        return geoLocationService.batchLocateByGeoCodes(request.getGeoCodes());
+    }
+
     /**
      * 根据经纬度获取地理位置信息（逆地理编码）
      * 
@@ -94,6 +152,58 @@ public class DisasterDecodeController {
         return geoLocationService.getLocationByCoordinates(longitude, latitude);
     }
 
+    /**
+     * 批量逆地理编码（离线）
+     * 
+     * @param request 包含坐标数组的请求体
+     * @return 地理位置信息列表
+     */
+    @PostMapping("/geo/reverse/batch")
+    public Result<List<GeoLocationService.GeoLocationInfo>> batchGetLocationByCoordinates(
+            @RequestBody BatchReverseRequest request) {
+        return geoLocationService.batchGetLocationByCoordinates(request.getCoordinates());
+    }
+
+    /**
+     * 获取地理查询缓存统计
+     * 
+     * @return 缓存统计
+     */
+    @GetMapping("/geo/cache/stats")
+    public Result<GeoCacheService.GeoCacheStats> getGeoCacheStats() {
+        return geoCacheService.getStats();
+    }
+
+    /**
+     * 清空地理查询缓存（含持久化缓存）
+     * 
+     * @return 清空后的缓存统计
+     */
+    @PostMapping("/geo/cache/clear")
+    public Result<GeoCacheService.GeoCacheStats> clearGeoCache() {
+        return geoCacheService.clear();
+    }
+
+    /**
+     * 获取高德API调用保护统计
+     * 
+     * @return 熔断状态、并发数及各操作耗时分布
+     */
+    @GetMapping("/geo/provider/stats")
+    public Result<ProviderGuard.Stats> getGeoProviderStats() {
+        return geoLocationService.getProviderStats();
+    }
+
+    /**
+     * 获取地理信息异步补全队列统计
+     * 
+     * @return 队列统计
+     */
+    @GetMapping("/geo/enrichment/stats")
+    public Result<GeoEnrichmentService.GeoEnrichmentStats> getGeoEnrichmentStats() {
+        return geoEnrichmentService.getStats();
+    }
+
     /**
      * 解码文件名
      * 从文件名中提取36位ID并解码
@@ -166,6 +276,36 @@ public class DisasterDecodeController {
         }
     }
 
+    /**
+     * 批量地理码定位请求体
+     */
+    public static class BatchLocateRequest {
+        private List<String> geoCodes;
+
+        public List<String> getGeoCodes() {
+            return geoCodes;
+        }
+
+        public void setGeoCodes(List<String> geoCodes) {
+            this.geoCodes = geoCodes;
+        }
+    }
+
+    /**
+     * 批量逆地理编码请求体
+     */
+    public static class BatchReverseRequest {
+        private List<double[]> coordinates;
+
+        public List<double[]> getCoordinates() {
+            return coordinates;
+        }
+
+        public void setCoordinates(List<double[]> coordinates) {
+            this.coordinates = coordinates;
+        }
+    }
+
     /**
      * 解码文件名请求体
      */
@@ -2,6 +2,8 @@ package com.example.module.controller;
 
 import com.example.module.entity.mongodb.FileMetadata;
 import com.example.module.service.FileService;
+import com.example.module.util.CursorPage;
+import com.example.module.util.CursorRequest;
 import com.example.module.util.Result;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -38,25 +40,40 @@ public class FileController {
     }
     
     @GetMapping
-    public Result<List<FileMetadata>> getAllFiles() {
-        return fileService.getAllFiles();
+    public Result<CursorPage<FileMetadata>> getAllFiles(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count) {
+        return fileService.getAllFiles(new CursorRequest(cursor, size, count));
     }
     
     @GetMapping("/type/{fileType}")
-    public Result<List<FileMetadata>> getFilesByType(@PathVariable String fileType) {
-        return fileService.getFilesByType(fileType);
+    public Result<CursorPage<FileMetadata>> getFilesByType(
+            @PathVariable String fileType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count) {
+        return fileService.getFilesByType(fileType, new CursorRequest(cursor, size, count));
     }
     
     @GetMapping("/related")
-    public Result<List<FileMetadata>> getFilesByRelatedData(
+    public Result<CursorPage<FileMetadata>> getFilesByRelatedData(
             @RequestParam String relatedDataId,
-            @RequestParam String relatedDataType) {
-        return fileService.getFilesByRelatedData(relatedDataId, relatedDataType);
+            @RequestParam String relatedDataType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count) {
+        CursorRequest request = new CursorRequest(cursor, size, count);
+        return fileService.getFilesByRelatedData(relatedDataId, relatedDataType, request);
     }
     
     @GetMapping("/user/{userId}")
-    public Result<List<FileMetadata>> getUserFiles(@PathVariable Long userId) {
-        return fileService.getUserFiles(userId);
+    public Result<CursorPage<FileMetadata>> getUserFiles(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count) {
+        return fileService.getUserFiles(userId, new CursorRequest(cursor, size, count));
     }
     
     @DeleteMapping("/{id}")
@@ -2,6 +2,8 @@ package com.example.module.controller;
 
 import com.example.module.entity.mongodb.LogData;
 import com.example.module.service.LogDataService;
+import com.example.module.util.CursorPage;
+import com.example.module.util.CursorRequest;
 import com.example.module.util.Result;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -11,7 +13,6 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/log-data")
@@ -36,10 +37,18 @@ public class LogDataController {
         }
     }
     
+    /**
+     * 游标分页查询日志，可按级别、日志时间过滤（非法游标由全局异常处理返回400）
+     */
     @GetMapping
-    public Result<List<LogData>> getAllLogData() {
-        List<LogData> logDataList = logDataService.getAllLogData();
-        return Result.success(logDataList);
+    public Result<CursorPage<LogData>> getAllLogData(
+            @RequestParam(required = false) String level,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count) {
+        return Result.success(logDataService.getAllLogData(level, start, end, new CursorRequest(cursor, size, count)));
     }
     
     @GetMapping("/page")
@@ -52,17 +61,23 @@ public class LogDataController {
     }
     
     @GetMapping("/level/{level}")
-    public Result<List<LogData>> getLogDataByLevel(@PathVariable String level) {
-        List<LogData> logDataList = logDataService.getLogDataByLevel(level);
-        return Result.success(logDataList);
+    public Result<CursorPage<LogData>> getLogDataByLevel(
+            @PathVariable String level,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count) {
+        return Result.success(logDataService.getLogDataByLevel(level, new CursorRequest(cursor, size, count)));
     }
     
     @GetMapping("/time-range")
-    public Result<List<LogData>> getLogDataByTimeRange(
+    public Result<CursorPage<LogData>> getLogDataByTimeRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
-        List<LogData> logDataList = logDataService.getLogDataByTimeRange(start, end);
-        return Result.success(logDataList);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count) {
+        CursorRequest request = new CursorRequest(cursor, size, count);
+        return Result.success(logDataService.getLogDataByTimeRange(start, end, request));
     }
     
     @DeleteMapping("/{id}")
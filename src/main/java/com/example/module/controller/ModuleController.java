@@ -3,6 +3,9 @@ package com.example.module.controller;
 import com.example.module.entity.mysql.ModuleEntity;
 import com.example.module.entity.mongodb.RawData;
 import com.example.module.service.ModuleService;
+import com.example.module.util.CursorPage;
+import com.example.module.util.CursorRequest;
+import com.example.module.util.FieldProjector;
 import com.example.module.util.Result;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -19,6 +22,7 @@ import java.util.Map;
 public class ModuleController {
     
     private final ModuleService moduleService;
+    private final FieldProjector fieldProjector;
 
     @PostMapping
     public Result<ModuleEntity> createModule(@RequestBody ModuleEntity moduleEntity) {
@@ -74,9 +78,19 @@ public class ModuleController {
         return moduleService.getRawDataById(id);
     }
 
+    /**
+     * 游标分页查询模块的原始数据，view=summary 或 fields=a,b 时只返回所列字段
+     */
     @GetMapping("/{moduleId}/raw-data")
-    public Result<List<RawData>> getRawDataByModuleId(@PathVariable Long moduleId) {
-        return moduleService.getRawDataByModuleId(moduleId);
+    public Result<CursorPage<?>> getRawDataByModuleId(
+            @PathVariable Long moduleId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        return moduleService.getRawDataByModuleId(moduleId, new CursorRequest(cursor, size, count),
+                fieldProjector.resolve(RawData.class, view, fields));
     }
 
     @GetMapping("/{moduleId}/combined")
@@ -2,10 +2,11 @@ package com.example.module.controller;
 
 import com.example.module.entity.mongodb.ProcessedData;
 import com.example.module.service.ProcessedDataService;
+import com.example.module.util.CursorPage;
+import com.example.module.util.CursorRequest;
 import com.example.module.util.Result;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/processed-data")
@@ -35,65 +36,110 @@ public class ProcessedDataController {
         }
     }
     
+    /**
+     * 游标分页查询处理数据，可按处理类型、置信度范围过滤
+     */
     @GetMapping
-    public Result<List<ProcessedData>> getAll() {
+    public Result<CursorPage<ProcessedData>> getAll(
+            @RequestParam(required = false) String processType,
+            @RequestParam(required = false) Double minScore,
+            @RequestParam(required = false) Double maxScore,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count) {
         try {
-            List<ProcessedData> processedDataList = processedDataService.findAll();
-            return Result.success("Processed data retrieved successfully", processedDataList);
+            CursorRequest request = new CursorRequest(cursor, size, count);
+            CursorPage<ProcessedData> page = processedDataService.findAll(processType, minScore, maxScore, request);
+            return Result.success("Processed data retrieved successfully", page);
+        } catch (IllegalArgumentException e) {
+            return Result.error(400, e.getMessage());
         } catch (Exception e) {
             return Result.error(500, "Failed to get processed data: " + e.getMessage());
         }
     }
     
     @GetMapping("/type/{processType}")
-    public Result<List<ProcessedData>> getByProcessType(@PathVariable String processType) {
+    public Result<CursorPage<ProcessedData>> getByProcessType(
+            @PathVariable String processType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count) {
         try {
-            List<ProcessedData> processedDataList = processedDataService.findByProcessType(processType);
-            return Result.success("Processed data retrieved by process type", processedDataList);
+            CursorRequest request = new CursorRequest(cursor, size, count);
+            CursorPage<ProcessedData> page = processedDataService.findByProcessType(processType, request);
+            return Result.success("Processed data retrieved by process type", page);
+        } catch (IllegalArgumentException e) {
+            return Result.error(400, e.getMessage());
         } catch (Exception e) {
             return Result.error(500, "Failed to get processed data by process type: " + e.getMessage());
         }
     }
     
     @GetMapping("/raw-data/{rawDataId}")
-    public Result<List<ProcessedData>> getByRawDataId(@PathVariable String rawDataId) {
+    public Result<CursorPage<ProcessedData>> getByRawDataId(
+            @PathVariable String rawDataId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count) {
         try {
-            List<ProcessedData> processedDataList = processedDataService.findByRawDataId(rawDataId);
-            return Result.success("Processed data retrieved by raw data id", processedDataList);
+            CursorRequest request = new CursorRequest(cursor, size, count);
+            CursorPage<ProcessedData> page = processedDataService.findByRawDataId(rawDataId, request);
+            return Result.success("Processed data retrieved by raw data id", page);
+        } catch (IllegalArgumentException e) {
+            return Result.error(400, e.getMessage());
         } catch (Exception e) {
             return Result.error(500, "Failed to get processed data by raw data id: " + e.getMessage());
         }
     }
     
     @GetMapping("/confidence/min/{minScore}")
-    public Result<List<ProcessedData>> getByMinConfidence(@PathVariable Double minScore) {
+    public Result<CursorPage<ProcessedData>> getByMinConfidence(
+            @PathVariable Double minScore,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count) {
         try {
-            List<ProcessedData> processedDataList = processedDataService.findByConfidenceScoreGreaterThan(minScore);
-            return Result.success("Processed data retrieved by min confidence", processedDataList);
+            CursorRequest request = new CursorRequest(cursor, size, count);
+            CursorPage<ProcessedData> page = processedDataService.findByConfidenceScoreGreaterThan(minScore, request);
+            return Result.success("Processed data retrieved by min confidence", page);
+        } catch (IllegalArgumentException e) {
+            return Result.error(400, e.getMessage());
         } catch (Exception e) {
             return Result.error(500, "Failed to get processed data by confidence score: " + e.getMessage());
         }
     }
     
     @GetMapping("/confidence/range")
-    public Result<List<ProcessedData>> getByConfidenceRange(
+    public Result<CursorPage<ProcessedData>> getByConfidenceRange(
             @RequestParam Double minScore,
-            @RequestParam Double maxScore) {
+            @RequestParam Double maxScore,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count) {
         try {
-            List<ProcessedData> processedDataList = processedDataService.findByConfidenceScoreBetween(minScore, maxScore);
-            return Result.success("Processed data retrieved by confidence range", processedDataList);
+            CursorRequest request = new CursorRequest(cursor, size, count);
+            CursorPage<ProcessedData> page = processedDataService.findByConfidenceScoreBetween(minScore, maxScore, request);
+            return Result.success("Processed data retrieved by confidence range", page);
+        } catch (IllegalArgumentException e) {
+            return Result.error(400, e.getMessage());
         } catch (Exception e) {
             return Result.error(500, "Failed to get processed data by confidence range: " + e.getMessage());
         }
     }
     
     @GetMapping("/search/field")
-    public Result<List<ProcessedData>> searchByField(
+    public Result<CursorPage<ProcessedData>> searchByField(
             @RequestParam String field,
-            @RequestParam String value) {
+            @RequestParam String value,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count) {
         try {
-            List<ProcessedData> processedDataList = processedDataService.findByProcessedContentField(field, value);
-            return Result.success("Processed data retrieved by field search", processedDataList);
+            CursorRequest request = new CursorRequest(cursor, size, count);
+            CursorPage<ProcessedData> page = processedDataService.findByProcessedContentField(field, value, request);
+            return Result.success("Processed data retrieved by field search", page);
+        } catch (IllegalArgumentException e) {
+            return Result.error(400, e.getMessage());
         } catch (Exception e) {
             return Result.error(500, "Failed to search processed data by field: " + e.getMessage());
         }
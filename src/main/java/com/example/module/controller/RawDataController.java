@@ -2,13 +2,15 @@ package com.example.module.controller;
 
 import com.example.module.entity.mongodb.RawData;
 import com.example.module.service.RawDataService;
+import com.example.module.util.CursorPage;
+import com.example.module.util.CursorRequest;
+import com.example.module.util.FieldProjector;
 import com.example.module.util.Result;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/raw-data")
@@ -16,10 +18,25 @@ import java.util.List;
 public class RawDataController {
     
     private final RawDataService rawDataService;
+    private final FieldProjector fieldProjector;
 
+    /**
+     * 游标分页查询原始数据，可按类型、处理状态、创建时间过滤
+     * 各列表接口默认返回完整数据；view=summary 返回列表展示字段，fields=a,b 只返回所列字段（优先于 view）
+     */
     @GetMapping
-    public Result<List<RawData>> getAllRawData() {
-        return rawDataService.getAllRawData();
+    public Result<CursorPage<?>> getAllRawData(
+            @RequestParam(required = false) String dataType,
+            @RequestParam(required = false) Boolean processed,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        return rawDataService.getAllRawData(dataType, processed, start, end, new CursorRequest(cursor, size, count),
+                fieldProjector.resolve(RawData.class, view, fields));
     }
 
     @PostMapping
@@ -33,20 +50,39 @@ public class RawDataController {
     }
 
     @GetMapping("/type/{dataType}")
-    public Result<List<RawData>> getRawDataByType(@PathVariable String dataType) {
-        return rawDataService.getRawDataByType(dataType);
+    public Result<CursorPage<?>> getRawDataByType(
+            @PathVariable String dataType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        return rawDataService.getRawDataByType(dataType, new CursorRequest(cursor, size, count),
+                fieldProjector.resolve(RawData.class, view, fields));
     }
 
     @GetMapping("/unprocessed")
-    public Result<List<RawData>> getUnprocessedData() {
-        return rawDataService.getUnprocessedData();
+    public Result<CursorPage<?>> getUnprocessedData(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        return rawDataService.getUnprocessedData(new CursorRequest(cursor, size, count),
+                fieldProjector.resolve(RawData.class, view, fields));
     }
 
     @GetMapping("/time-range")
-    public Result<List<RawData>> getRawDataByTimeRange(
+    public Result<CursorPage<?>> getRawDataByTimeRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
-        return rawDataService.getRawDataByTimeRange(start, end);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        return rawDataService.getRawDataByTimeRange(start, end, new CursorRequest(cursor, size, count),
+                fieldProjector.resolve(RawData.class, view, fields));
     }
 
     @PutMapping("/{id}/processed")
@@ -2,10 +2,13 @@ package com.example.module.entity.mongodb;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 
+// 游标分页的排序键：正常状态的文件按上传时间倒序
+@CompoundIndex(name = "status_createTime_id", def = "{'status': 1, 'createTime': -1, '_id': -1}")
 @Data
 @Document(collection = "file_metadata")
 public class FileMetadata {
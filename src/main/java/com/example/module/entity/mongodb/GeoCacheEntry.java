@@ -0,0 +1,44 @@
+package com.example.module.entity.mongodb;
+
+import com.example.module.service.GeoLocationService;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * 地理查询缓存条目
+ * 保存高德行政区划查询、地理编码的结果，供各节点共享并在重启后继续使用；
+ * expire_at 上建有 TTL 索引，过期条目由 MongoDB 自动删除。
+ */
+@Data
+@Document(collection = "geo_cache")
+public class GeoCacheEntry {
+    /**
+     * 缓存键，如 district:3:510104000000、geocode:四川省成都市锦江区
+     */
+    @Id
+    private String key;
+
+    @Field("value")
+    private GeoLocationService.GeoLocationInfo value;
+
+    /**
+     * 是否为否定缓存（上游明确返回无匹配结果）
+     */
+    @Field("negative")
+    private Boolean negative;
+
+    @Field("message")
+    private String message;
+
+    @Field("create_time")
+    private LocalDateTime createTime;
+
+    @Indexed(expireAfterSeconds = 0)
+    @Field("expire_at")
+    private LocalDateTime expireAt;
+}
@@ -2,12 +2,15 @@ package com.example.module.entity.mongodb;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.time.LocalDateTime;
 import java.util.Map;
 
+// 游标分页的排序键：排序字段 + _id
+@CompoundIndex(name = "timestamp_id", def = "{'timestamp': -1, '_id': -1}")
 @Data
 @Document(collection = "log_data")
 public class LogData {
@@ -2,11 +2,19 @@ package com.example.module.entity.mongodb;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 import java.time.LocalDateTime;
 import java.util.Map;
 
+// 游标分页的排序键：排序字段 + _id
+@CompoundIndexes({
+        @CompoundIndex(name = "create_time_id", def = "{'create_time': -1, '_id': -1}"),
+        @CompoundIndex(name = "confidence_score_id", def = "{'confidence_score': -1, '_id': -1}"),
+        @CompoundIndex(name = "raw_data_id_create_time_id", def = "{'raw_data_id': 1, 'create_time': -1, '_id': -1}")
+})
 @Document(collection = "processed_data")
 @Data
 public class ProcessedData {
@@ -1,13 +1,19 @@
 package com.example.module.entity.mongodb;
 
+import com.example.module.util.PackedDisasterId;
+import com.example.module.util.TimeCodeParser;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.time.LocalDateTime;
 import java.util.Map;
 
+// raw_data 的索引按查询形态统一声明在 DataIndexServiceImpl 中，启动后在后台校正，不在实体上声明
 @Data
 @Document(collection = "raw_data")
 public class RawData {
@@ -50,14 +56,56 @@ public class RawData {
     // ========== 解码后的字段 ==========
     
     @Field("disaster_id")
-    private String disasterId; // 36位灾情ID
+    private PackedDisasterId disasterId; // 36位灾情ID，以16字节Binary存储并建有索引，JSON中为36位字符串
     
     @Field("geo_code")
     private String geoCode; // 地理码（12位）
     
+    @JsonIgnore
+    @Field("geo_province")
+    private String geoProvince; // 省级前缀（地理码前2位，随geoCode同步），用于按行政区划层级查询
+    
+    @JsonIgnore
+    @Field("geo_city")
+    private String geoCity; // 市级前缀（地理码前4位）
+    
+    @JsonIgnore
+    @Field("geo_district")
+    private String geoDistrict; // 县区级前缀（地理码前6位）
+    
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Field("location")
+    private GeoJsonPoint location; // 灾情位置（GeoJSON点，经度在前），由地理码定位得到，raw_data 上建有 2dsphere 索引
+    
+    // ========== 地理信息补全字段（入库后由异步补全写入） ==========
+    
+    @Field("province_name")
+    private String provinceName; // 省级名称
+    
+    @Field("city_name")
+    private String cityName; // 市级名称
+    
+    @Field("district_name")
+    private String districtName; // 县区级名称
+    
+    @Field("formatted_address")
+    private String formattedAddress; // 完整地址
+    
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Field("geo_enrich_time")
+    private LocalDateTime geoEnrichTime; // 地理信息补全时间，为空表示尚未补全
+    
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Field("geo_enrich_attempts")
+    private Integer geoEnrichAttempts; // 未能完整补全的尝试次数，达到上限后不再重试
+    
     @Field("disaster_date_time")
     private LocalDateTime disasterDateTime; // 灾情发生时间
     
+    @JsonIgnore
+    @Field("disaster_epoch_second")
+    private Long disasterEpochSecond; // 灾情发生时间的纪元秒（随disasterDateTime同步），用于按时间范围查询
+    
     @Field("source_category")
     private String sourceCategory; // 来源大类
     
@@ -78,4 +126,23 @@ public class RawData {
     
     @Field("decoded_description")
     private String decodedDescription; // 解码后的完整描述
-}
\ No newline at end of file
+    
+    /**
+     * 设置地理码，同时更新省、市、县区前缀字段（地理码不足12位时前缀字段置空）
+     */
+    public void setGeoCode(String geoCode) {
+        this.geoCode = geoCode;
+        boolean valid = geoCode != null && geoCode.length() == 12;
+        this.geoProvince = valid ? geoCode.substring(0, 2) : null;
+        this.geoCity = valid ? geoCode.substring(0, 4) : null;
+        this.geoDistrict = valid ? geoCode.substring(0, 6) : null;
+    }
+    
+    /**
+     * 设置灾情发生时间，同时更新用于范围查询的纪元秒字段
+     */
+    public void setDisasterDateTime(LocalDateTime disasterDateTime) {
+        this.disasterDateTime = disasterDateTime;
+        this.disasterEpochSecond = disasterDateTime != null ? TimeCodeParser.toEpochSecond(disasterDateTime) : null;
+    }
+}
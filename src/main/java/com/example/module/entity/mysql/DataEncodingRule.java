@@ -0,0 +1,52 @@
+package com.example.module.entity.mysql;
+
+import lombok.Data;
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "data_encoding_rule")
+@Data
+public class DataEncodingRule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "rule_name", nullable = false, length = 100)
+    private String ruleName;
+
+    @Column(name = "data_type", length = 100)
+    private String dataType; // 适用的数据类型
+
+    @Column(name = "encoding_type", length = 50)
+    private String encodingType; // 编码类型：JSON、XML、CSV、DISASTER_CODE等
+
+    @Column(name = "rule_content", columnDefinition = "TEXT")
+    private String ruleContent; // 规则内容（JSON格式）
+
+    @Column(name = "version", length = 20)
+    private String version = "1.0"; // 规则版本
+
+    @Column(name = "status")
+    private Integer status = 1; // 0-禁用，1-启用
+
+    @Column(name = "create_time")
+    private LocalDateTime createTime;
+
+    @Column(name = "update_time")
+    private LocalDateTime updateTime;
+
+    @PrePersist
+    protected void onCreate() {
+        createTime = LocalDateTime.now();
+        updateTime = LocalDateTime.now();
+        if (status == null) {
+            status = 1;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updateTime = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.module.repository.mongodb;
+
+import com.example.module.entity.mongodb.GeoCacheEntry;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GeoCacheEntryRepository extends MongoRepository<GeoCacheEntry, String> {
+}
@@ -1,6 +1,7 @@
 package com.example.module.repository.mongodb;
 
 import com.example.module.entity.mongodb.RawData;
+import com.example.module.util.PackedDisasterId;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -39,5 +40,14 @@ public interface RawDataRepository extends MongoRepository<RawData, String> {
     
     List<RawData> findByDisasterDateTimeBetween(LocalDateTime start, LocalDateTime end);
     
-    List<RawData> findByDisasterId(String disasterId);
+    /**
+     * 按灾情发生时间的纪元秒范围查询（包含两端）
+     */
+    @Query("{ 'disaster_epoch_second': { $gte: ?0, $lte: ?1 } }")
+    List<RawData> findByDisasterEpochSecondRange(long start, long end);
+    
+    /**
+     * 按灾情ID查询（disaster_id 以16字节 Binary 存储并建有索引）
+     */
+    List<RawData> findByDisasterId(PackedDisasterId disasterId);
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.example.module.repository.mysql;
+
+import com.example.module.entity.mysql.DataEncodingRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DataEncodingRuleRepository extends JpaRepository<DataEncodingRule, Long> {
+    List<DataEncodingRule> findByEncodingTypeAndStatusOrderByIdAsc(String encodingType, Integer status);
+}
@@ -0,0 +1,83 @@
+package com.example.module.service;
+
+import com.example.module.util.Result;
+
+import java.time.LocalDateTime;
+
+/**
+ * 灾情编码字典服务接口
+ * 从 data_encoding_rule 表加载编码对照表，并热替换解码器使用的字典
+ */
+public interface CodeDictionaryService {
+
+    /**
+     * 规则表中灾情编码字典使用的编码类型
+     */
+    String ENCODING_TYPE = "DISASTER_CODE";
+
+    /**
+     * 重新加载编码字典
+     * 规则内容未变化时保留当前版本
+     *
+     * @return 加载后的字典状态
+     */
+    Result<DictionaryStatus> reload();
+
+    /**
+     * 获取当前字典状态
+     *
+     * @return 字典状态
+     */
+    Result<DictionaryStatus> getStatus();
+
+    /**
+     * 字典状态
+     */
+    class DictionaryStatus {
+        private Long version;
+        private Integer ruleCount;
+        private Integer entryCount;
+        private Integer skippedCount;
+        private LocalDateTime loadedAt;
+
+        public Long getVersion() {
+            return version;
+        }
+
+        public void setVersion(Long version) {
+            this.version = version;
+        }
+
+        public Integer getRuleCount() {
+            return ruleCount;
+        }
+
+        public void setRuleCount(Integer ruleCount) {
+            this.ruleCount = ruleCount;
+        }
+
+        public Integer getEntryCount() {
+            return entryCount;
+        }
+
+        public void setEntryCount(Integer entryCount) {
+            this.entryCount = entryCount;
+        }
+
+        public Integer getSkippedCount() {
+            return skippedCount;
+        }
+
+        public void setSkippedCount(Integer skippedCount) {
+            this.skippedCount = skippedCount;
+        }
+
+        public LocalDateTime getLoadedAt() {
+            return loadedAt;
+        }
+
+        public void setLoadedAt(LocalDateTime loadedAt) {
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.module.service;
+
+import com.example.module.util.Result;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * raw_data 索引管理服务接口
+ * 按各查询形态声明受管复合索引，启动后在后台线程中校正（创建缺失的、重建键不一致的、删除被覆盖的旧索引），
+ * 并可通过 explain 查看每种查询形态实际使用的索引和扫描量。
+ */
+public interface DataIndexService {
+
+    /**
+     * 后台校正受管索引（不阻塞调用方）
+     *
+     * @return 是否已开始；已有校正在进行时返回false
+     */
+    boolean reconcileAsync();
+
+    /**
+     * 获取受管索引状态及最近一次校正结果
+     */
+    Result<IndexReport> getIndexReport();
+
+    /**
+     * 对各查询形态执行 explain（executionStats）
+     * 查询值取自最新一条数据，集合为空时使用示例值
+     */
+    Result<List<QueryPlan>> explainQueryShapes();
+
+    /**
+     * 索引状态报告
+     */
+    class IndexReport {
+        private String collection;
+        private String reconcileState;
+        private LocalDateTime lastReconcileTime;
+        private String lastError;
+        private List<IndexStatus> managed;
+        private List<String> unmanaged;
+        private List<String> droppedRedundant;
+
+        public String getCollection() {
+            return collection;
+        }
+
+        public void setCollection(String collection) {
+            this.collection = collection;
+        }
+
+        public String getReconcileState() {
+            return reconcileState;
+        }
+
+        public void setReconcileState(String reconcileState) {
+            this.reconcileState = reconcileState;
+        }
+
+        public LocalDateTime getLastReconcileTime() {
+            return lastReconcileTime;
+        }
+
+        public void setLastReconcileTime(LocalDateTime lastReconcileTime) {
+            this.lastReconcileTime = lastReconcileTime;
+        }
+
+        public String getLastError() {
+            return lastError;
+        }
+
+        public void setLastError(String lastError) {
+            this.lastError = lastError;
+        }
+
+        public List<IndexStatus> getManaged() {
+            return managed;
+        }
+
+        public void setManaged(List<IndexStatus> managed) {
+            this.managed = managed;
+        }
+
+        public List<String> getUnmanaged() {
+            return unmanaged;
+        }
+
+        public void setUnmanaged(List<String> unmanaged) {
+            this.unmanaged = unmanaged;
+        }
+
+        public List<String> getDroppedRedundant() {
+            return droppedRedundant;
+        }
+
+        public void setDroppedRedundant(List<String> droppedRedundant) {
+            this.droppedRedundant = droppedRedundant;
+        }
+    }
+
+    /**
+     * 单个受管索引的状态
+     */
+    class IndexStatus {
+        private String name;
+        private Map<String, Object> keys;
+        private boolean present;
+        private String existingName;
+        private String lastAction;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Map<String, Object> getKeys() {
+            return keys;
+        }
+
+        public void setKeys(Map<String, Object> keys) {
+            this.keys = keys;
+        }
+
+        public boolean isPresent() {
+            return present;
+        }
+
+        public void setPresent(boolean present) {
+            this.present = present;
+        }
+
+        public String getExistingName() {
+            return existingName;
+        }
+
+        public void setExistingName(String existingName) {
+            this.existingName = existingName;
+        }
+
+        public String getLastAction() {
+            return lastAction;
+        }
+
+        public void setLastAction(String lastAction) {
+            this.lastAction = lastAction;
+        }
+    }
+
+    /**
+     * 单个查询形态的执行计划摘要
+     */
+    class QueryPlan {
+        private String shape;
+        private String filter;
+        private String sort;
+        private String expectedIndex;
+        private String usedIndex;
+        private boolean collectionScan;
+        private boolean inMemorySort;
+        private long keysExamined;
+        private long docsExamined;
+        private long returned;
+        private long executionMillis;
+        private String error;
+
+        public String getShape() {
+            return shape;
+        }
+
+        public void setShape(String shape) {
+            this.shape = shape;
+        }
+
+        public String getFilter() {
+            return filter;
+        }
+
+        public void setFilter(String filter) {
+            this.filter = filter;
+        }
+
+        public String getSort() {
+            return sort;
+        }
+
+        public void setSort(String sort) {
+            this.sort = sort;
+        }
+
+        public String getExpectedIndex() {
+            return expectedIndex;
+        }
+
+        public void setExpectedIndex(String expectedIndex) {
+            this.expectedIndex = expectedIndex;
+        }
+
+        public String getUsedIndex() {
+            return usedIndex;
+        }
+
+        public void setUsedIndex(String usedIndex) {
+            this.usedIndex = usedIndex;
+        }
+
+        public boolean isCollectionScan() {
+            return collectionScan;
+        }
+
+        public void setCollectionScan(boolean collectionScan) {
+            this.collectionScan = collectionScan;
+        }
+
+        public boolean isInMemorySort() {
+            return inMemorySort;
+        }
+
+        public void setInMemorySort(boolean inMemorySort) {
+            this.inMemorySort = inMemorySort;
+        }
+
+        public long getKeysExamined() {
+            return keysExamined;
+        }
+
+        public void setKeysExamined(long keysExamined) {
+            this.keysExamined = keysExamined;
+        }
+
+        public long getDocsExamined() {
+            return docsExamined;
+        }
+
+        public void setDocsExamined(long docsExamined) {
+            this.docsExamined = docsExamined;
+        }
+
+        public long getReturned() {
+            return returned;
+        }
+
+        public void setReturned(long returned) {
+            this.returned = returned;
+        }
+
+        public long getExecutionMillis() {
+            return executionMillis;
+        }
+
+        public void setExecutionMillis(long executionMillis) {
+            this.executionMillis = executionMillis;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public void setError(String error) {
+            this.error = error;
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.module.service;
 
 import com.example.module.entity.mongodb.RawData;
+import com.example.module.util.CursorPage;
+import com.example.module.util.CursorRequest;
+import com.example.module.util.FieldProjection;
 import com.example.module.util.DecodedId;
 import com.example.module.util.Result;
+import org.springframework.data.domain.Page;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -17,58 +23,143 @@ public interface DisasterDataQueryService {
      * 根据灾害大类查询
      * 
      * @param category 灾害大类（如：房屋破坏、人员伤亡等）
-     * @return 数据列表
+     * @param page 游标分页参数（按灾情时间倒序）
+     * @param projection 字段投影，为null时返回完整数据
+     * @return 游标分页结果
      */
-    Result<List<RawData>> queryByDisasterCategory(String category);
+    Result<CursorPage<?>> queryByDisasterCategory(String category, CursorRequest page,
+                                                  FieldProjection<RawData> projection);
 
     /**
      * 根据灾害子类查询
      * 
      * @param subcategory 灾害子类（如：砖木、框架等）
-     * @return 数据列表
+     * @param page 游标分页参数（按灾情时间倒序）
+     * @param projection 字段投影，为null时返回完整数据
+     * @return 游标分页结果
      */
-    Result<List<RawData>> queryByDisasterSubcategory(String subcategory);
+    Result<CursorPage<?>> queryByDisasterSubcategory(String subcategory, CursorRequest page,
+                                                     FieldProjection<RawData> projection);
 
     /**
      * 根据来源查询
      * 
      * @param source 来源（如：后方指挥部、互联网感知等）
-     * @return 数据列表
+     * @param page 游标分页参数（按灾情时间倒序）
+     * @param projection 字段投影，为null时返回完整数据
+     * @return 游标分页结果
      */
-    Result<List<RawData>> queryBySource(String source);
+    Result<CursorPage<?>> queryBySource(String source, CursorRequest page, FieldProjection<RawData> projection);
 
     /**
      * 根据载体类型查询
      * 
      * @param carrierType 载体类型（文字/图像/音频/视频）
-     * @return 数据列表
+     * @param page 游标分页参数（按灾情时间倒序）
+     * @param projection 字段投影，为null时返回完整数据
+     * @return 游标分页结果
      */
-    Result<List<RawData>> queryByCarrierType(String carrierType);
+    Result<CursorPage<?>> queryByCarrierType(String carrierType, CursorRequest page,
+                                             FieldProjection<RawData> projection);
 
     /**
      * 根据地理码查询
      * 
      * @param geoCode 地理码（12位）
-     * @return 数据列表
+     * @param page 游标分页参数（按灾情时间倒序）
+     * @param projection 字段投影，为null时返回完整数据
+     * @return 游标分页结果
      */
-    Result<List<RawData>> queryByGeoCode(String geoCode);
+    Result<CursorPage<?>> queryByGeoCode(String geoCode, CursorRequest page, FieldProjection<RawData> projection);
+
+    /**
+     * 按行政区划层级查询
+     * 省、市、县区级前缀按 geo_province / geo_city / geo_district 等值查询，乡镇、村级按 geo_code 范围查询
+     * 
+     * @param code 任意层级的行政区划代码：2/4/6/9位前缀，或末尾补0的12位代码
+     * @param page 游标分页参数（按灾情时间倒序）
+     * @param countOnly 为true时只统计总数，不返回数据
+     * @param projection 字段投影，为null时返回完整数据
+     * @return 游标分页结果
+     */
+    Result<CursorPage<?>> queryByGeoPrefix(String code, CursorRequest page, boolean countOnly,
+                                           FieldProjection<RawData> projection);
+
+    /**
+     * 矩形范围查询（由 location 的 2dsphere 索引完成）
+     * 
+     * @param minLongitude 西边界经度
+     * @param minLatitude 南边界纬度
+     * @param maxLongitude 东边界经度
+     * @param maxLatitude 北边界纬度
+     * @param params 附加过滤条件与游标分页参数（按 _id 倒序）
+     * @param projection 字段投影，为null时返回完整数据
+     * @return 游标分页结果
+     */
+    Result<CursorPage<?>> queryByBoundingBox(double minLongitude, double minLatitude,
+                                             double maxLongitude, double maxLatitude, SpatialQueryParams params,
+                                             FieldProjection<RawData> projection);
+
+    /**
+     * 圆形范围查询（按球面距离）
+     * 
+     * @param longitude 圆心经度
+     * @param latitude 圆心纬度
+     * @param radiusKm 半径（千米）
+     * @param params 附加过滤条件与游标分页参数（按 _id 倒序）
+     * @param projection 字段投影，为null时返回完整数据
+     * @return 游标分页结果
+     */
+    Result<CursorPage<?>> queryByRadius(double longitude, double latitude, double radiusKm,
+                                        SpatialQueryParams params, FieldProjection<RawData> projection);
+
+    /**
+     * 多边形范围查询
+     * 
+     * @param coordinates 多边形顶点，每项为[经度, 纬度]，首尾不必重复
+     * @param params 附加过滤条件与游标分页参数（按 _id 倒序）
+     * @param projection 字段投影，为null时返回完整数据
+     * @return 游标分页结果
+     */
+    Result<CursorPage<?>> queryByPolygon(List<double[]> coordinates, SpatialQueryParams params,
+                                         FieldProjection<RawData> projection);
 
     /**
      * 根据时间范围查询
      * 
      * @param start 开始时间
      * @param end 结束时间
-     * @return 数据列表
+     * @param page 游标分页参数（按灾情时间倒序）
+     * @param projection 字段投影，为null时返回完整数据
+     * @return 游标分页结果
+     */
+    Result<CursorPage<?>> queryByTimeRange(LocalDateTime start, LocalDateTime end, CursorRequest page,
+                                           FieldProjection<RawData> projection);
+
+    /**
+     * 综合查询（分页，按灾情时间倒序）
+     * 全部条件（含时间范围）在数据库端执行，只读取当前页
+     * 
+     * @param queryParams 查询参数，页码从1开始，未指定时取第1页、每页20条
+     * @param projection 字段投影，为null时返回完整数据
+     * @return 分页结果
      */
-    Result<List<RawData>> queryByTimeRange(LocalDateTime start, LocalDateTime end);
+    Result<Page<?>> queryByMultipleConditions(DisasterQueryParams queryParams, FieldProjection<RawData> projection);
 
     /**
-     * 综合查询
+     * 流式导出综合查询的全部结果（按灾情时间倒序，忽略分页参数）
+     * 从数据库游标逐条读取并立即写出，内存占用与结果条数无关；
+     * 读取中途出错时保留已写出的数据，末尾追加一条错误行（NDJSON 为含 error 字段的对象，CSV 为以 #ERROR 开头的行）
      * 
      * @param queryParams 查询参数
-     * @return 数据列表
+     * @param format 导出格式
+     * @param outputStream 输出流（压缩、关闭由调用方负责）
+     * @return 导出条数
+     * @throws IllegalArgumentException 开始时间晚于结束时间
+     * @throws IOException 写出失败（如客户端断开）
      */
-    Result<List<RawData>> queryByMultipleConditions(DisasterQueryParams queryParams);
+    long exportByMultipleConditions(DisasterQueryParams queryParams, ExportFormat format,
+                                    OutputStream outputStream) throws IOException;
 
     /**
      * 获取解码后的数据详情（包含解码信息）
@@ -78,6 +169,44 @@ public interface DisasterDataQueryService {
      */
     Result<DisasterDataDetail> getDataDetailWithDecode(String id);
 
+    /**
+     * 导出格式
+     */
+    enum ExportFormat {
+        /** 每行一个JSON对象，字段与查询接口返回的一致 */
+        NDJSON("application/x-ndjson", "ndjson"),
+        /** 逗号分隔，首行为列名，UTF-8 带 BOM（Excel 可直接打开） */
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * @throws IllegalArgumentException 不支持的格式
+         */
+        public static ExportFormat of(String name) {
+            for (ExportFormat format : values()) {
+                if (format.extension.equalsIgnoreCase(name)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("不支持的导出格式: " + name + "，可选 ndjson、csv");
+        }
+    }
+
     /**
      * 查询参数类
      */
@@ -166,6 +295,66 @@ public interface DisasterDataQueryService {
         }
     }
 
+    /**
+     * 空间查询的附加过滤条件与游标分页参数
+     */
+    class SpatialQueryParams {
+        private String disasterCategory;
+        private LocalDateTime startTime;
+        private LocalDateTime endTime;
+        private String cursor;
+        private Integer size;
+        private boolean count;
+
+        public String getDisasterCategory() {
+            return disasterCategory;
+        }
+
+        public void setDisasterCategory(String disasterCategory) {
+            this.disasterCategory = disasterCategory;
+        }
+
+        public LocalDateTime getStartTime() {
+            return startTime;
+        }
+
+        public void setStartTime(LocalDateTime startTime) {
+            this.startTime = startTime;
+        }
+
+        public LocalDateTime getEndTime() {
+            return endTime;
+        }
+
+        public void setEndTime(LocalDateTime endTime) {
+            this.endTime = endTime;
+        }
+
+        public String getCursor() {
+            return cursor;
+        }
+
+        public void setCursor(String cursor) {
+            this.cursor = cursor;
+        }
+
+        public Integer getSize() {
+            return size;
+        }
+
+        public void setSize(Integer size) {
+            this.size = size;
+        }
+
+        public boolean isCount() {
+            return count;
+        }
+
+        public void setCount(boolean count) {
+            this.count = count;
+        }
+    }
+
     /**
      * 包含解码信息的数据详情
      */
@@ -1,8 +1,12 @@
 package com.example.module.service;
 
 import com.example.module.util.DecodedId;
+import com.example.module.util.DecodedIdCache;
 import com.example.module.util.Result;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -26,6 +30,17 @@ public interface DisasterDecodeService {
      */
     Result<List<DecodedId>> batchDecodeIds(List<String> ids);
 
+    /**
+     * 流式批量解码ID
+     * 从输入流逐行读取ID（每行一个），边读边解码，并以NDJSON格式逐条写出结果，
+     * 最后输出一行汇总信息。内存占用与ID数量无关。
+     * 
+     * @param inputStream 换行分隔的ID（UTF-8）
+     * @param outputStream NDJSON格式的解码结果
+     * @throws IOException 读写失败
+     */
+    void streamDecodeIds(InputStream inputStream, OutputStream outputStream) throws IOException;
+
     /**
      * 验证ID格式
      * 
@@ -33,5 +48,18 @@ public interface DisasterDecodeService {
      * @return 验证结果
      */
     Result<Boolean> validateId(String id);
-}
 
+    /**
+     * 获取解码缓存统计（命中、未命中、淘汰次数等）
+     * 
+     * @return 缓存统计信息
+     */
+    Result<DecodedIdCache.Stats> getCacheStats();
+
+    /**
+     * 清空解码缓存
+     * 
+     * @return 清空后的缓存统计信息
+     */
+    Result<DecodedIdCache.Stats> clearCache();
+}
@@ -1,10 +1,11 @@
 package com.example.module.service;
 
 import com.example.module.entity.mongodb.FileMetadata;
+import com.example.module.util.CursorPage;
+import com.example.module.util.CursorRequest;
 import com.example.module.util.Result;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.List;
 import java.util.Map;
 
 public interface FileService {
@@ -12,13 +13,16 @@ public interface FileService {
     
     Result<FileMetadata> getFileById(String id);
     
-    Result<List<FileMetadata>> getAllFiles();
+    /**
+     * 游标分页查询正常状态的文件（按上传时间倒序）
+     */
+    Result<CursorPage<FileMetadata>> getAllFiles(CursorRequest page);
     
-    Result<List<FileMetadata>> getFilesByType(String fileType);
+    Result<CursorPage<FileMetadata>> getFilesByType(String fileType, CursorRequest page);
     
-    Result<List<FileMetadata>> getFilesByRelatedData(String relatedDataId, String relatedDataType);
+    Result<CursorPage<FileMetadata>> getFilesByRelatedData(String relatedDataId, String relatedDataType, CursorRequest page);
     
-    Result<List<FileMetadata>> getUserFiles(Long userId);
+    Result<CursorPage<FileMetadata>> getUserFiles(Long userId, CursorRequest page);
     
     Result<Boolean> deleteFile(String id);
     
@@ -0,0 +1,111 @@
+package com.example.module.service;
+
+import com.example.module.util.Result;
+
+import java.util.function.Supplier;
+
+/**
+ * 地理查询缓存服务接口
+ * 两级缓存：进程内带过期时间的 LRU + MongoDB geo_cache 集合（跨节点共享、重启后保留）。
+ * 上游明确无结果（code 404）的查询做否定缓存；同一键的并发查询合并为一次上游调用。
+ */
+public interface GeoCacheService {
+
+    /**
+     * 查询缓存，未命中时调用 loader 并缓存结果
+     * 只缓存成功结果和 404 结果，其余错误（网络异常、配额不足等）直接返回且不缓存。
+     *
+     * @param key 缓存键
+     * @param loader 上游查询
+     * @return 查询结果（缓存的地理信息为共享对象，调用方不应修改）
+     */
+    Result<GeoLocationService.GeoLocationInfo> get(String key, Supplier<Result<GeoLocationService.GeoLocationInfo>> loader);
+
+    /**
+     * 获取缓存统计
+     */
+    Result<GeoCacheStats> getStats();
+
+    /**
+     * 清空两级缓存
+     */
+    Result<GeoCacheStats> clear();
+
+    /**
+     * 缓存统计
+     */
+    class GeoCacheStats {
+        private boolean persistent;
+        private int maximumSize;
+        private int size;
+        private long memoryHitCount;
+        private long persistentHitCount;
+        private long negativeHitCount;
+        private long loadCount;
+        private long coalescedCount;
+
+        public boolean isPersistent() {
+            return persistent;
+        }
+
+        public void setPersistent(boolean persistent) {
+            this.persistent = persistent;
+        }
+
+        public int getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public void setSize(int size) {
+            this.size = size;
+        }
+
+        public long getMemoryHitCount() {
+            return memoryHitCount;
+        }
+
+        public void setMemoryHitCount(long memoryHitCount) {
+            this.memoryHitCount = memoryHitCount;
+        }
+
+        public long getPersistentHitCount() {
+            return persistentHitCount;
+        }
+
+        public void setPersistentHitCount(long persistentHitCount) {
+            this.persistentHitCount = persistentHitCount;
+        }
+
+        public long getNegativeHitCount() {
+            return negativeHitCount;
+        }
+
+        public void setNegativeHitCount(long negativeHitCount) {
+            this.negativeHitCount = negativeHitCount;
+        }
+
+        public long getLoadCount() {
+            return loadCount;
+        }
+
+        public void setLoadCount(long loadCount) {
+            this.loadCount = loadCount;
+        }
+
+        public long getCoalescedCount() {
+            return coalescedCount;
+        }
+
+        public void setCoalescedCount(long coalescedCount) {
+            this.coalescedCount = coalescedCount;
+        }
+    }
+}
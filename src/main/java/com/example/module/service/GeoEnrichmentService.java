@@ -0,0 +1,121 @@
+package com.example.module.service;
+
+import com.example.module.entity.mongodb.RawData;
+import com.example.module.util.Result;
+
+/**
+ * 地理信息异步补全服务接口
+ * 新入库的灾情数据放入有界队列，由后台线程按批定位（离线数据 + 地理查询缓存）后，
+ * 以批量 $set 只写回位置相关字段，读取时不再需要调用地理定位接口。
+ */
+public interface GeoEnrichmentService {
+
+    /**
+     * 提交待补全的数据（不阻塞）
+     *
+     * @param rawData 已保存且带地理码的数据
+     * @return 是否已加入队列；未启用、数据不完整或队列已满时返回false
+     */
+    boolean submit(RawData rawData);
+
+    /**
+     * 获取补全队列统计
+     */
+    Result<GeoEnrichmentStats> getStats();
+
+    /**
+     * 补全队列统计
+     */
+    class GeoEnrichmentStats {
+        private boolean enabled;
+        private int queueSize;
+        private int queueCapacity;
+        private long submittedCount;
+        private long droppedCount;
+        private long enrichedCount;
+        private long failedCount;
+        private long partialCount;
+        private long sweptCount;
+        private long batchCount;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        public void setQueueSize(int queueSize) {
+            this.queueSize = queueSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public long getSubmittedCount() {
+            return submittedCount;
+        }
+
+        public void setSubmittedCount(long submittedCount) {
+            this.submittedCount = submittedCount;
+        }
+
+        public long getDroppedCount() {
+            return droppedCount;
+        }
+
+        public void setDroppedCount(long droppedCount) {
+            this.droppedCount = droppedCount;
+        }
+
+        public long getEnrichedCount() {
+            return enrichedCount;
+        }
+
+        public void setEnrichedCount(long enrichedCount) {
+            this.enrichedCount = enrichedCount;
+        }
+
+        public long getFailedCount() {
+            return failedCount;
+        }
+
+        public void setFailedCount(long failedCount) {
+            this.failedCount = failedCount;
+        }
+
+        public long getPartialCount() {
+            return partialCount;
+        }
+
+        public void setPartialCount(long partialCount) {
+            this.partialCount = partialCount;
+        }
+
+        public long getSweptCount() {
+            return sweptCount;
+        }
+
+        public void setSweptCount(long sweptCount) {
+            this.sweptCount = sweptCount;
+        }
+
+        public long getBatchCount() {
+            return batchCount;
+        }
+
+        public void setBatchCount(long batchCount) {
+            this.batchCount = batchCount;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.module.service;
 
+import com.example.module.util.ProviderGuard;
 import com.example.module.util.Result;
 
+import java.util.List;
+
 /**
  * 地理信息服务接口
  * 用于解析地理码并获取地理位置信息（集成高德API）
@@ -18,6 +21,7 @@ public interface GeoLocationService {
 
     /**
      * 根据经纬度获取地理位置信息（逆地理编码）
+     * 优先返回离线数据中中心点最近的行政区划，超出匹配距离时使用高德API
      * 
      * @param longitude 经度
      * @param latitude 纬度
@@ -25,6 +29,14 @@ public interface GeoLocationService {
      */
     Result<GeoLocationInfo> getLocationByCoordinates(Double longitude, Double latitude);
 
+    /**
+     * 批量逆地理编码（只使用离线数据，不发起网络请求）
+     * 
+     * @param coordinates 坐标列表，每项为[经度, 纬度]
+     * @return 与输入顺序一致的地理位置信息，未匹配的坐标只包含经纬度
+     */
+    Result<List<GeoLocationInfo>> batchGetLocationByCoordinates(List<double[]> coordinates);
+
     /**
      * 根据12位地理码进行定位
      * 解析地理码的层级结构（省、市、县、乡镇、村），并获取地理位置信息
@@ -34,6 +46,29 @@ public interface GeoLocationService {
      */
     Result<GeoLocationInfo> locateByGeoCode(String geoCode);
 
+    /**
+     * 批量定位地理码
+     * 按省、市、县区、乡镇各级前缀去重，每个不同的前缀只解析一次，再将结果分发回各地理码
+     * 
+     * @param geoCodes 12位地理码列表（可重复）
+     * @return 与输入顺序一致的定位结果，格式错误的地理码不包含在内
+     */
+    Result<List<GeoLocationInfo>> batchLocateByGeoCodes(List<String> geoCodes);
+
+    /**
+     * 后台补全使用的批量定位
+     * 与 batchLocateByGeoCodes 相同，远程查询在独立的低并发线程池中执行，不占用交互查询的线程
+     *
+     * @param geoCodes 12位地理码列表（可重复）
+     * @return 与输入顺序一致的定位结果，格式错误的地理码不包含在内
+     */
+    Result<List<GeoLocationInfo>> batchLocateInBackground(List<String> geoCodes);
+
+    /**
+     * 获取高德API调用保护统计（熔断状态、并发、各操作耗时分布）
+     */
+    Result<ProviderGuard.Stats> getProviderStats();
+
     /**
      * 地理信息类
      */
@@ -120,6 +155,8 @@ public interface GeoLocationService {
         private String villageCode;
         private String township;
         private String village;
+        // 非零层级中未能解析出名称的个数（离线数据未收录且远程查询失败或超时），大于0时对应名称留空
+        private int unresolvedLevels;
 
         public String getProvinceCode() {
             return provinceCode;
@@ -176,6 +213,14 @@ public interface GeoLocationService {
         public void setVillage(String village) {
             this.village = village;
         }
+
+        public int getUnresolvedLevels() {
+            return unresolvedLevels;
+        }
+
+        public void setUnresolvedLevels(int unresolvedLevels) {
+            this.unresolvedLevels = unresolvedLevels;
+        }
     }
 }
 
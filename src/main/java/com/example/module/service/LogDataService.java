@@ -1,11 +1,12 @@
 package com.example.module.service;
 
 import com.example.module.entity.mongodb.LogData;
+import com.example.module.util.CursorPage;
+import com.example.module.util.CursorRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 public interface LogDataService {
     
@@ -13,13 +14,16 @@ public interface LogDataService {
     
     LogData getLogDataById(String id);
     
-    List<LogData> getAllLogData();
+    /**
+     * 游标分页查询日志（按日志时间倒序），为空的过滤条件不生效
+     */
+    CursorPage<LogData> getAllLogData(String level, LocalDateTime start, LocalDateTime end, CursorRequest page);
     
     Page<LogData> getLogDataByPage(Pageable pageable);
     
-    List<LogData> getLogDataByLevel(String level);
+    CursorPage<LogData> getLogDataByLevel(String level, CursorRequest page);
     
-    List<LogData> getLogDataByTimeRange(LocalDateTime start, LocalDateTime end);
+    CursorPage<LogData> getLogDataByTimeRange(LocalDateTime start, LocalDateTime end, CursorRequest page);
     
     void deleteLogData(String id);
     
@@ -2,6 +2,9 @@ package com.example.module.service;
 
 import com.example.module.entity.mysql.ModuleEntity;
 import com.example.module.entity.mongodb.RawData;
+import com.example.module.util.CursorPage;
+import com.example.module.util.CursorRequest;
+import com.example.module.util.FieldProjection;
 import com.example.module.util.Result;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +23,9 @@ public interface ModuleService {
     Result<RawData> updateRawData(String id, RawData rawData);
     Result<Void> deleteRawData(String id);
     Result<RawData> getRawDataById(String id);
-    Result<List<RawData>> getRawDataByModuleId(Long moduleId);
+    /**
+     * 游标分页查询模块的原始数据（按创建时间倒序），projection 为null时返回完整数据
+     */
+    Result<CursorPage<?>> getRawDataByModuleId(Long moduleId, CursorRequest page, FieldProjection<RawData> projection);
     Result<Map<String, Object>> getCombinedData(Long moduleId);
 }
\ No newline at end of file
@@ -1,7 +1,8 @@
 package com.example.module.service;
 
 import com.example.module.entity.mongodb.ProcessedData;
-import java.util.List;
+import com.example.module.util.CursorPage;
+import com.example.module.util.CursorRequest;
 import java.util.Optional;
 
 public interface ProcessedDataService {
@@ -10,17 +11,26 @@ public interface ProcessedDataService {
     
     Optional<ProcessedData> findById(String id);
     
-    List<ProcessedData> findAll();
+    /**
+     * 游标分页查询（按创建时间倒序），为空的过滤条件不生效
+     */
+    CursorPage<ProcessedData> findAll(String processType, Double minScore, Double maxScore, CursorRequest page);
     
-    List<ProcessedData> findByProcessType(String processType);
+    CursorPage<ProcessedData> findByProcessType(String processType, CursorRequest page);
     
-    List<ProcessedData> findByRawDataId(String rawDataId);
+    CursorPage<ProcessedData> findByRawDataId(String rawDataId, CursorRequest page);
     
-    List<ProcessedData> findByConfidenceScoreGreaterThan(Double minScore);
+    /**
+     * 置信度大于 minScore 的数据（按置信度倒序）
+     */
+    CursorPage<ProcessedData> findByConfidenceScoreGreaterThan(Double minScore, CursorRequest page);
     
-    List<ProcessedData> findByConfidenceScoreBetween(Double minScore, Double maxScore);
+    /**
+     * 置信度在 [minScore, maxScore] 内的数据（按置信度倒序）
+     */
+    CursorPage<ProcessedData> findByConfidenceScoreBetween(Double minScore, Double maxScore, CursorRequest page);
     
-    List<ProcessedData> findByProcessedContentField(String field, Object value);
+    CursorPage<ProcessedData> findByProcessedContentField(String field, Object value, CursorRequest page);
     
     void deleteById(String id);
     
@@ -1,23 +1,31 @@
 package com.example.module.service;
 
 import com.example.module.entity.mongodb.RawData;
+import com.example.module.util.CursorPage;
+import com.example.module.util.CursorRequest;
+import com.example.module.util.FieldProjection;
 import com.example.module.util.Result;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 public interface RawDataService {
-    Result<List<RawData>> getAllRawData();
+    /**
+     * 游标分页查询原始数据（按创建时间倒序），为空的过滤条件不生效
+     * 以下列表查询的 projection 为字段投影，为null时返回完整数据
+     */
+    Result<CursorPage<?>> getAllRawData(String dataType, Boolean processed, LocalDateTime start, LocalDateTime end,
+                                        CursorRequest page, FieldProjection<RawData> projection);
 
     Result<RawData> saveRawData(RawData rawData);
 
     Result<RawData> getRawDataById(String id);
 
-    Result<List<RawData>> getRawDataByType(String dataType);
+    Result<CursorPage<?>> getRawDataByType(String dataType, CursorRequest page, FieldProjection<RawData> projection);
 
-    Result<List<RawData>> getUnprocessedData();
+    Result<CursorPage<?>> getUnprocessedData(CursorRequest page, FieldProjection<RawData> projection);
 
-    Result<List<RawData>> getRawDataByTimeRange(LocalDateTime start, LocalDateTime end);
+    Result<CursorPage<?>> getRawDataByTimeRange(LocalDateTime start, LocalDateTime end, CursorRequest page,
+                                                FieldProjection<RawData> projection);
 
     Result<Boolean> markAsProcessed(String id);
 
@@ -0,0 +1,215 @@
+package com.example.module.service.impl;
+
+import com.example.module.entity.mysql.DataEncodingRule;
+import com.example.module.repository.mysql.DataEncodingRuleRepository;
+import com.example.module.service.CodeDictionaryService;
+import com.example.module.util.CodeDictionary;
+import com.example.module.util.DisasterCodeConstants;
+import com.example.module.util.Result;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 灾情编码字典服务实现类
+ *
+ * data_encoding_rule 表中 encoding_type = DISASTER_CODE 且启用的规则，其 rule_content 为单个条目或条目数组，例如：
+ * <pre>
+ * [
+ *   {"level": "indicator", "category": "1", "code": "004", "name": "烈度"},
+ *   {"level": "sourceSubcategory", "code": "08", "name": "无人机航拍"}
+ * ]
+ * </pre>
+ * level 取值：category、subcategory、indicator、sourceCategory、sourceSubcategory、carrier，
+ * subcategory 和 indicator 需要同时给出所属大类 category。规则条目覆盖在内置对照表之上。
+ *
+ * 每次加载都在内置对照表的副本上构建新字典，完成后整体替换，解码线程不会看到构建中的字典。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CodeDictionaryServiceImpl implements CodeDictionaryService {
+
+    private final DataEncodingRuleRepository dataEncodingRuleRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 上次加载的规则指纹，用于判断规则是否变化
+    private String loadedFingerprint;
+    private volatile DictionaryStatus status = initialStatus();
+
+    @Override
+    public synchronized Result<DictionaryStatus> reload() {
+        try {
+            List<DataEncodingRule> rules = dataEncodingRuleRepository
+                    .findByEncodingTypeAndStatusOrderByIdAsc(ENCODING_TYPE, 1);
+
+            String fingerprint = fingerprint(rules);
+            if (fingerprint.equals(loadedFingerprint)) {
+                return Result.success("编码字典未变化", status);
+            }
+
+            long version = DisasterCodeConstants.getDictionary().getVersion() + 1;
+            CodeDictionary.Builder builder = DisasterCodeConstants.DEFAULT_DICTIONARY.toBuilder().version(version);
+            int entryCount = 0;
+            int skippedCount = 0;
+
+            for (DataEncodingRule rule : rules) {
+                JsonNode content;
+                try {
+                    content = objectMapper.readTree(rule.getRuleContent());
+                } catch (Exception e) {
+                    log.warn("编码规则内容不是合法的JSON, 规则ID: {}, 原因: {}", rule.getId(), e.getMessage());
+                    skippedCount++;
+                    continue;
+                }
+                if (content == null) {
+                    skippedCount++;
+                    continue;
+                }
+
+                if (content.isArray()) {
+                    for (JsonNode entry : content) {
+                        if (applyEntry(builder, entry)) {
+                            entryCount++;
+                        } else {
+                            log.warn("忽略无效的编码条目, 规则ID: {}, 条目: {}", rule.getId(), entry);
+                            skippedCount++;
+                        }
+                    }
+                } else if (applyEntry(builder, content)) {
+                    entryCount++;
+                } else {
+                    log.warn("忽略无效的编码条目, 规则ID: {}, 条目: {}", rule.getId(), content);
+                    skippedCount++;
+                }
+            }
+
+            DisasterCodeConstants.setDictionary(builder.build());
+            loadedFingerprint = fingerprint;
+
+            DictionaryStatus newStatus = new DictionaryStatus();
+            newStatus.setVersion(version);
+            newStatus.setRuleCount(rules.size());
+            newStatus.setEntryCount(entryCount);
+            newStatus.setSkippedCount(skippedCount);
+            newStatus.setLoadedAt(LocalDateTime.now());
+            status = newStatus;
+
+            log.info("编码字典加载完成, 版本: {}, 规则数: {}, 条目数: {}, 忽略: {}",
+                    version, rules.size(), entryCount, skippedCount);
+            return Result.success("编码字典加载成功", newStatus);
+        } catch (Exception e) {
+            log.error("加载编码字典失败, 继续使用当前版本", e);
+            return Result.error("加载编码字典失败: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Result<DictionaryStatus> getStatus() {
+        return Result.success(status);
+    }
+
+    /**
+     * 将单个条目写入构建器
+     *
+     * @return 条目是否有效
+     */
+    private boolean applyEntry(CodeDictionary.Builder builder, JsonNode entry) {
+        String level = entry.path("level").asText();
+        String name = entry.path("name").asText(null);
+        if (name == null || name.isEmpty()) {
+            return false;
+        }
+
+        String code = entry.path("code").asText();
+        int category = parseCode(entry.path("category").asText(), 1);
+        int value;
+        switch (level) {
+            case "category":
+                if ((value = parseCode(code, 1)) < 0) {
+                    return false;
+                }
+                builder.category(value, name);
+                return true;
+            case "subcategory":
+                if (category < 0 || (value = parseCode(code, 2)) < 0) {
+                    return false;
+                }
+                builder.subcategory(category, value, name);
+                return true;
+            case "indicator":
+                if (category < 0 || (value = parseCode(code, 3)) < 0) {
+                    return false;
+                }
+                builder.indicator(category, value, name);
+                return true;
+            case "sourceCategory":
+                if ((value = parseCode(code, 1)) < 0) {
+                    return false;
+                }
+                builder.sourceCategory(value, name);
+                return true;
+            case "sourceSubcategory":
+                if ((value = parseCode(code, 2)) < 0) {
+                    return false;
+                }
+                builder.sourceSubcategory(value, name);
+                return true;
+            case "carrier":
+                if ((value = parseCode(code, 1)) < 0) {
+                    return false;
+                }
+                builder.carrier(value, name);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 解析固定位数的数字编码，格式不正确时返回-1
+     */
+    private static int parseCode(String code, int width) {
+        if (code == null || code.length() != width) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < width; i++) {
+            int d = code.charAt(i) - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+    /**
+     * 计算规则集合的指纹（规则ID、版本、更新时间及内容）
+     */
+    private static String fingerprint(List<DataEncodingRule> rules) {
+        StringBuilder sb = new StringBuilder();
+        for (DataEncodingRule rule : rules) {
+            sb.append(rule.getId()).append(':')
+                    .append(rule.getVersion()).append(':')
+                    .append(rule.getUpdateTime()).append(':')
+                    .append(rule.getRuleContent() == null ? 0 : rule.getRuleContent().hashCode())
+                    .append(';');
+        }
+        return sb.toString();
+    }
+
+    private static DictionaryStatus initialStatus() {
+        DictionaryStatus initial = new DictionaryStatus();
+        initial.setVersion(DisasterCodeConstants.getDictionary().getVersion());
+        initial.setRuleCount(0);
+        initial.setEntryCount(0);
+        initial.setSkippedCount(0);
+        return initial;
+    }
+}
@@ -0,0 +1,416 @@
+package com.example.module.service.impl;
+
+import com.example.module.entity.mongodb.RawData;
+import com.example.module.service.DataIndexService;
+import com.example.module.util.ManagedIndex;
+import com.example.module.util.PackedDisasterId;
+import com.example.module.util.Result;
+import com.mongodb.client.MongoCollection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * raw_data 索引管理服务实现类
+ * 受管索引按查询形态声明：等值字段在前，排序字段（灾情时间 / 创建时间）与 _id 在后，
+ * 等值 + 排序 + 游标续读都能在索引内完成，不需要内存排序。
+ * 校正在独立的守护线程中执行，MongoDB 建索引期间应用照常启动并对外服务。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DataIndexServiceImpl implements DataIndexService {
+
+    private static final String SORT_BY_TIME = "disaster_epoch_second";
+    private static final String SORT_BY_CREATE = "create_time";
+
+    /**
+     * raw_data 的受管索引
+     */
+    private static final List<ManagedIndex> RAW_DATA_INDEXES = Collections.unmodifiableList(Arrays.asList(
+            // 按灾情时间查询、综合查询无等值条件时
+            ManagedIndex.of("disaster_time", SORT_BY_TIME, -1, "_id", -1),
+            // 解码字段等值查询 + 按灾情时间倒序（含综合查询）
+            ManagedIndex.of("category_time", "disaster_category", 1, SORT_BY_TIME, -1, "_id", -1),
+            ManagedIndex.of("subcategory_time", "disaster_subcategory", 1, SORT_BY_TIME, -1, "_id", -1),
+            ManagedIndex.of("source_time", "source_subcategory", 1, SORT_BY_TIME, -1, "_id", -1),
+            ManagedIndex.of("carrier_time", "carrier_type", 1, SORT_BY_TIME, -1, "_id", -1),
+            // 地理码等值查询，以及乡镇、村级前缀的地理码范围查询
+            ManagedIndex.of("geo_code_time", "geo_code", 1, SORT_BY_TIME, -1, "_id", -1),
+            // 省、市、县区级前缀查询 + 按灾情时间倒序（覆盖早期的 geo_province_1 等单字段索引）
+            ManagedIndex.of("geo_province_time", "geo_province", 1, SORT_BY_TIME, -1, "_id", -1),
+            ManagedIndex.of("geo_city_time", "geo_city", 1, SORT_BY_TIME, -1, "_id", -1),
+            ManagedIndex.of("geo_district_time", "geo_district", 1, SORT_BY_TIME, -1, "_id", -1),
+            // 空间范围查询（附带大类、时间过滤）
+            ManagedIndex.of("location_2dsphere_category_time",
+                    "location", "2dsphere", "disaster_category", 1, SORT_BY_TIME, 1),
+            // 按灾情ID等值查询（16字节 Binary，索引项比36位字符串小）
+            ManagedIndex.of("disaster_id_1", "disaster_id", 1),
+            // 原始数据列表：按创建时间倒序，可附带数据类型、处理状态、模块条件
+            ManagedIndex.of("create_time", SORT_BY_CREATE, -1, "_id", -1),
+            ManagedIndex.of("data_type_create_time", "data_type", 1, SORT_BY_CREATE, -1, "_id", -1),
+            ManagedIndex.of("processed_create_time", "processed", 1, SORT_BY_CREATE, -1, "_id", -1),
+            ManagedIndex.of("module_id_create_time", "module_id", 1, SORT_BY_CREATE, -1, "_id", -1)
+    ));
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${disaster.index.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    @Value("${disaster.index.drop-redundant:true}")
+    private boolean dropRedundant;
+
+    // explain 时每种查询形态读取的条数，与列表接口默认每页条数一致
+    @Value("${disaster.index.explain-limit:20}")
+    private int explainLimit;
+
+    private final AtomicBoolean reconciling = new AtomicBoolean();
+    private final Map<String, String> lastActions = new ConcurrentHashMap<>();
+    private volatile String reconcileState = "NOT_STARTED";
+    private volatile LocalDateTime lastReconcileTime;
+    private volatile String lastError;
+    private volatile List<String> droppedRedundant = Collections.emptyList();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!reconcileOnStartup) {
+            log.info("raw_data 索引启动校正已关闭");
+            return;
+        }
+        reconcileAsync();
+    }
+
+    @Override
+    public boolean reconcileAsync() {
+        if (!reconciling.compareAndSet(false, true)) {
+            return false;
+        }
+        reconcileState = "RUNNING";
+        Thread thread = new Thread(() -> {
+            try {
+                reconcile();
+            } finally {
+                reconciling.set(false);
+            }
+        }, "index-reconcile");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    /**
+     * 校正受管索引：键相同的已有索引（名称可以不同）视为已存在；同名但键不同的先删除再创建；
+     * 被受管索引前缀覆盖的普通旧索引（如早期的单字段索引）按配置删除。单个索引失败不影响其他索引
+     */
+    private void reconcile() {
+        long startTime = System.currentTimeMillis();
+        String failure = null;
+        List<String> dropped = new ArrayList<>();
+        try {
+            MongoCollection<Document> collection = rawDataCollection();
+            List<Document> existing = listIndexes(collection);
+            for (ManagedIndex index : RAW_DATA_INDEXES) {
+                try {
+                    lastActions.put(index.getName(), reconcileIndex(collection, existing, index));
+                } catch (Exception e) {
+                    lastActions.put(index.getName(), "FAILED");
+                    failure = index.getName() + ": " + e.getMessage();
+                    log.error("raw_data 索引 {} 校正失败: {}", index, e.getMessage());
+                }
+            }
+            if (dropRedundant) {
+                for (Document info : listIndexes(collection)) {
+                    String name = info.getString("name");
+                    Document keys = info.get("key", Document.class);
+                    // 只有覆盖它的受管索引已就绪时才删除
+                    if (isPlainIndex(info) && findManaged(keys) == null && RAW_DATA_INDEXES.stream()
+                            .anyMatch(m -> !"FAILED".equals(lastActions.get(m.getName())) && m.coversAsPrefix(keys))) {
+                        collection.dropIndex(name);
+                        dropped.add(name);
+                        log.info("已删除被受管索引覆盖的 raw_data 索引: {}", name);
+                    }
+                }
+            }
+            reconcileState = failure == null ? "DONE" : "FAILED";
+            log.info("raw_data 索引校正完成，耗时{}ms", System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            failure = e.getMessage();
+            reconcileState = "FAILED";
+            log.error("raw_data 索引校正失败: {}", e.getMessage());
+        }
+        droppedRedundant = dropped;
+        lastError = failure;
+        lastReconcileTime = LocalDateTime.now();
+    }
+
+    private String reconcileIndex(MongoCollection<Document> collection, List<Document> existing, ManagedIndex index) {
+        for (Document info : existing) {
+            if (index.sameKeys(info.get("key", Document.class))) {
+                return "EXISTS";
+            }
+        }
+        String action = "CREATED";
+        for (Document info : existing) {
+            if (index.getName().equals(info.getString("name"))) {
+                log.warn("raw_data 索引 {} 的键已变化（原为{}），重建", index.getName(), info.get("key", Document.class).toJson());
+                collection.dropIndex(index.getName());
+                action = "REBUILT";
+            }
+        }
+        long startTime = System.currentTimeMillis();
+        mongoTemplate.indexOps(RawData.class).ensureIndex(index.toDefinition());
+        log.info("raw_data 索引 {} 已创建，耗时{}ms", index, System.currentTimeMillis() - startTime);
+        return action;
+    }
+
+    /**
+     * 可安全删除的普通索引：非 _id、非唯一/稀疏/部分/TTL 索引，且键均为升降序
+     */
+    private static boolean isPlainIndex(Document info) {
+        if ("_id_".equals(info.getString("name")) || Boolean.TRUE.equals(info.get("unique"))
+                || Boolean.TRUE.equals(info.get("sparse")) || info.containsKey("partialFilterExpression")
+                || info.containsKey("expireAfterSeconds")) {
+            return false;
+        }
+        return info.get("key", Document.class).values().stream().allMatch(v -> v instanceof Number);
+    }
+
+    private static ManagedIndex findManaged(Document keys) {
+        for (ManagedIndex index : RAW_DATA_INDEXES) {
+            if (index.sameKeys(keys)) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Result<IndexReport> getIndexReport() {
+        try {
+            MongoCollection<Document> collection = rawDataCollection();
+            List<Document> existing = listIndexes(collection);
+
+            List<IndexStatus> managed = new ArrayList<>(RAW_DATA_INDEXES.size());
+            for (ManagedIndex index : RAW_DATA_INDEXES) {
+                IndexStatus status = new IndexStatus();
+                status.setName(index.getName());
+                status.setKeys(new LinkedHashMap<>(index.getKeys()));
+                for (Document info : existing) {
+                    if (index.sameKeys(info.get("key", Document.class))) {
+                        status.setPresent(true);
+                        status.setExistingName(info.getString("name"));
+                    }
+                }
+                status.setLastAction(lastActions.get(index.getName()));
+                managed.add(status);
+            }
+            List<String> unmanaged = new ArrayList<>();
+            for (Document info : existing) {
+                if (!"_id_".equals(info.getString("name")) && findManaged(info.get("key", Document.class)) == null) {
+                    unmanaged.add(info.getString("name"));
+                }
+            }
+
+            IndexReport report = new IndexReport();
+            report.setCollection(collection.getNamespace().getCollectionName());
+            report.setReconcileState(reconcileState);
+            report.setLastReconcileTime(lastReconcileTime);
+            report.setLastError(lastError);
+            report.setManaged(managed);
+            report.setUnmanaged(unmanaged);
+            report.setDroppedRedundant(droppedRedundant);
+            return Result.success(report);
+        } catch (Exception e) {
+            log.error("获取 raw_data 索引状态失败: {}", e.getMessage());
+            return Result.error("获取索引状态失败: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Result<List<QueryPlan>> explainQueryShapes() {
+        try {
+            MongoCollection<Document> collection = rawDataCollection();
+            Document sample = collection.find().sort(new Document("_id", -1)).limit(1).first();
+            List<QueryPlan> plans = new ArrayList<>();
+            for (QueryShape shape : queryShapes(sample != null ? sample : new Document())) {
+                plans.add(explain(collection.getNamespace().getCollectionName(), shape));
+            }
+            return Result.success(plans);
+        } catch (Exception e) {
+            log.error("raw_data 查询计划分析失败: {}", e.getMessage());
+            return Result.error("查询计划分析失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 各接口实际使用的查询形态；查询值取自样本数据，缺少时使用示例值
+     */
+    private static List<QueryShape> queryShapes(Document sample) {
+        String category = sampleValue(sample, "disaster_category", "房屋破坏");
+        String geoCode = sampleValue(sample, "geo_code", "510104000000");
+        String geoPrefix = geoCode.length() >= 9 ? geoCode.substring(0, 9) : "510104001";
+        long epochSecond = sample.get(SORT_BY_TIME) instanceof Number
+                ? ((Number) sample.get(SORT_BY_TIME)).longValue() : System.currentTimeMillis() / 1000;
+        Document timeRange = new Document("$gte", epochSecond - 30L * 24 * 3600).append("$lte", epochSecond);
+        double[] point = samplePoint(sample);
+        Document byTime = new Document(SORT_BY_TIME, -1).append("_id", -1);
+        Document byCreate = new Document(SORT_BY_CREATE, -1).append("_id", -1);
+
+        List<QueryShape> shapes = new ArrayList<>();
+        shapes.add(new QueryShape("按灾害大类查询", "category_time",
+                new Document("disaster_category", category), byTime));
+        shapes.add(new QueryShape("按灾害子类查询", "subcategory_time",
+                new Document("disaster_subcategory", sampleValue(sample, "disaster_subcategory", "砖木")), byTime));
+        shapes.add(new QueryShape("按来源查询", "source_time",
+                new Document("source_subcategory", sampleValue(sample, "source_subcategory", "后方指挥部")), byTime));
+        shapes.add(new QueryShape("按载体类型查询", "carrier_time",
+                new Document("carrier_type", sampleValue(sample, "carrier_type", "文字")), byTime));
+        shapes.add(new QueryShape("按地理码查询", "geo_code_time", new Document("geo_code", geoCode), byTime));
+        Object disasterId = sample.get("disaster_id");
+        shapes.add(new QueryShape("按灾情ID查询", "disaster_id_1", new Document("disaster_id",
+                disasterId instanceof Binary ? disasterId : new Binary(new byte[PackedDisasterId.BYTES])), null));
+        shapes.add(new QueryShape("按省级前缀查询", "geo_province_time",
+                new Document("geo_province", geoPrefix.substring(0, 2)), byTime));
+        shapes.add(new QueryShape("按市级前缀查询", "geo_city_time",
+                new Document("geo_city", geoPrefix.substring(0, 4)), byTime));
+        shapes.add(new QueryShape("按县区级前缀查询", "geo_district_time",
+                new Document("geo_district", geoPrefix.substring(0, 6)), byTime));
+        shapes.add(new QueryShape("按乡镇级前缀查询", "geo_code_time",
+                new Document("geo_code", new Document("$gte", geoPrefix + "000").append("$lte", geoPrefix + "999")),
+                byTime));
+        shapes.add(new QueryShape("按灾情时间范围查询", "disaster_time",
+                new Document(SORT_BY_TIME, timeRange), byTime));
+        shapes.add(new QueryShape("综合查询（大类 + 时间范围）", "category_time",
+                new Document("disaster_category", category).append(SORT_BY_TIME, timeRange), byTime));
+        shapes.add(new QueryShape("圆形范围查询（附带大类）", "location_2dsphere_category_time",
+                new Document("location", new Document("$geoWithin", new Document("$centerSphere",
+                        Arrays.asList(Arrays.asList(point[0], point[1]), 50 / 6378.1))))
+                        .append("disaster_category", category), new Document("_id", -1)));
+        shapes.add(new QueryShape("原始数据列表", "create_time", new Document(), byCreate));
+        shapes.add(new QueryShape("按数据类型查询原始数据", "data_type_create_time",
+                new Document("data_type", sampleValue(sample, "data_type", "地震数据")), byCreate));
+        shapes.add(new QueryShape("查询未处理数据", "processed_create_time", new Document("processed", false), byCreate));
+        shapes.add(new QueryShape("按模块查询原始数据", "module_id_create_time",
+                new Document("module_id", sample.get("module_id") != null ? sample.get("module_id") : 1L), byCreate));
+        return shapes;
+    }
+
+    private static String sampleValue(Document sample, String field, String defaultValue) {
+        Object value = sample.get(field);
+        return value instanceof String && !((String) value).isEmpty() ? (String) value : defaultValue;
+    }
+
+    private static double[] samplePoint(Document sample) {
+        Document location = sample.get("location", Document.class);
+        if (location != null && location.get("coordinates") instanceof List) {
+            List<?> coordinates = (List<?>) location.get("coordinates");
+            if (coordinates.size() == 2 && coordinates.get(0) instanceof Number && coordinates.get(1) instanceof Number) {
+                return new double[]{((Number) coordinates.get(0)).doubleValue(), ((Number) coordinates.get(1)).doubleValue()};
+            }
+        }
+        return new double[]{104.06, 30.67};
+    }
+
+    private QueryPlan explain(String collectionName, QueryShape shape) {
+        QueryPlan plan = new QueryPlan();
+        plan.setShape(shape.name);
+        plan.setFilter(shape.filter.toJson());
+        plan.setSort(shape.sort != null ? shape.sort.toJson() : null);
+        plan.setExpectedIndex(shape.expectedIndex);
+        try {
+            Document find = new Document("find", collectionName).append("filter", shape.filter).append("limit", explainLimit);
+            if (shape.sort != null) {
+                find.append("sort", shape.sort);
+            }
+            Document explain = mongoTemplate.getDb().runCommand(
+                    new Document("explain", find).append("verbosity", "executionStats"));
+
+            Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+            // 启用 SBE 引擎时计划树位于 queryPlan 下
+            if (winningPlan.containsKey("queryPlan")) {
+                winningPlan = winningPlan.get("queryPlan", Document.class);
+            }
+            List<String> indexes = new ArrayList<>();
+            walkPlan(winningPlan, plan, indexes);
+            plan.setUsedIndex(indexes.isEmpty() ? null : String.join(",", indexes));
+
+            Document stats = explain.get("executionStats", Document.class);
+            plan.setKeysExamined(longValue(stats.get("totalKeysExamined")));
+            plan.setDocsExamined(longValue(stats.get("totalDocsExamined")));
+            plan.setReturned(longValue(stats.get("nReturned")));
+            plan.setExecutionMillis(longValue(stats.get("executionTimeMillis")));
+        } catch (Exception e) {
+            plan.setError(e.getMessage());
+        }
+        return plan;
+    }
+
+    /**
+     * 遍历计划树：记录使用的索引、是否全表扫描、是否内存排序
+     */
+    private static void walkPlan(Document stage, QueryPlan plan, List<String> indexes) {
+        String name = stage.getString("stage");
+        if ("IXSCAN".equals(name) && stage.getString("indexName") != null) {
+            indexes.add(stage.getString("indexName"));
+        } else if ("COLLSCAN".equals(name)) {
+            plan.setCollectionScan(true);
+        } else if ("SORT".equals(name)) {
+            plan.setInMemorySort(true);
+        }
+        Object input = stage.get("inputStage");
+        if (input instanceof Document) {
+            walkPlan((Document) input, plan, indexes);
+        }
+        Object inputs = stage.get("inputStages");
+        if (inputs instanceof List) {
+            for (Object child : (List<?>) inputs) {
+                if (child instanceof Document) {
+                    walkPlan((Document) child, plan, indexes);
+                }
+            }
+        }
+    }
+
+    private static long longValue(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    private MongoCollection<Document> rawDataCollection() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(RawData.class));
+    }
+
+    private static List<Document> listIndexes(MongoCollection<Document> collection) {
+        return collection.listIndexes().into(new ArrayList<>());
+    }
+
+    private static class QueryShape {
+        private final String name;
+        private final String expectedIndex;
+        private final Document filter;
+        private final Document sort;
+
+        QueryShape(String name, String expectedIndex, Document filter, Document sort) {
+            this.name = name;
+            this.expectedIndex = expectedIndex;
+            this.filter = filter;
+            this.sort = sort;
+        }
+    }
+}
@@ -3,17 +3,21 @@ package com.example.module.service.impl;
 import com.example.module.entity.mongodb.RawData;
 import com.example.module.repository.mongodb.RawDataRepository;
 import com.example.module.service.DisasterDataProcessService;
+import com.example.module.service.GeoEnrichmentService;
+import com.example.module.util.AdminDivisionIndex;
 import com.example.module.util.DecodedId;
-import com.example.module.util.DisasterIdDecoder;
+import com.example.module.util.DecodedIdCache;
+import com.example.module.util.DisasterIdScanner;
+import com.example.module.util.PackedDisasterId;
+import com.example.module.util.ParallelBatchExecutor;
 import com.example.module.util.Result;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * 灾情数据处理服务实现类
@@ -24,9 +28,10 @@ import java.util.regex.Pattern;
 public class DisasterDataProcessServiceImpl implements DisasterDataProcessService {
 
     private final RawDataRepository rawDataRepository;
-    
-    // 用于从字符串中提取36位ID的正则表达式
-    private static final Pattern ID_PATTERN = Pattern.compile("\\d{36}");
+    private final ParallelBatchExecutor batchDecodeExecutor;
+    private final DecodedIdCache decodedIdCache;
+    private final AdminDivisionIndex adminDivisionIndex;
+    private final GeoEnrichmentService geoEnrichmentService;
 
     @Override
     public Result<RawData> processAndDecode(RawData rawData) {
@@ -36,8 +41,8 @@ public class DisasterDataProcessServiceImpl implements DisasterDataProcessServic
             }
 
             // 如果已经有disasterId，直接解码
-            if (rawData.getDisasterId() != null && rawData.getDisasterId().length() == 36) {
-                return decodeAndUpdate(rawData, rawData.getDisasterId());
+            if (rawData.getDisasterId() != null) {
+                return decodeAndUpdate(rawData, rawData.getDisasterId().toString());
             }
 
             // 尝试从dataContent中提取ID
@@ -72,14 +77,18 @@ public class DisasterDataProcessServiceImpl implements DisasterDataProcessServic
             int successCount = 0;
             int failCount = 0;
 
-            for (RawData rawData : rawDataList) {
-                Result<RawData> result = processAndDecode(rawData);
+            // 批量较大时并行处理，结果与输入顺序一致
+            List<Result<RawData>> itemResults =
+                    batchDecodeExecutor.map(rawDataList, (index, rawData) -> processAndDecode(rawData));
+            for (int i = 0; i < itemResults.size(); i++) {
+                Result<RawData> result = itemResults.get(i);
                 if (result.getCode() == 200 && result.getData() != null) {
                     processedList.add(result.getData());
                     successCount++;
                 } else {
                     failCount++;
-                    log.warn("批量处理中数据解码失败: {}", rawData.getId());
+                    RawData rawData = rawDataList.get(i);
+                    log.warn("批量处理中数据解码失败: {}", rawData != null ? rawData.getId() : null);
                 }
             }
 
@@ -118,17 +127,18 @@ public class DisasterDataProcessServiceImpl implements DisasterDataProcessServic
      */
     private Result<RawData> decodeAndUpdate(RawData rawData, String disasterId) {
         try {
-            // 验证ID格式
-            if (!DisasterIdDecoder.isValid(disasterId)) {
+            // 解码ID（同一报文重复入库时直接使用缓存结果）
+            DecodedId decoded;
+            try {
+                decoded = decodedIdCache.decode(disasterId);
+            } catch (IllegalArgumentException e) {
                 return Result.error("ID格式不正确: " + disasterId);
             }
 
-            // 解码ID
-            DecodedId decoded = DisasterIdDecoder.decode(disasterId);
-
             // 更新RawData字段
-            rawData.setDisasterId(disasterId);
+            rawData.setDisasterId(PackedDisasterId.pack(disasterId));
             rawData.setGeoCode(decoded.getGeoCode());
+            rawData.setLocation(locate(decoded.getGeoCode()));
             rawData.setDisasterDateTime(decoded.getDateTime());
             rawData.setSourceCategory(decoded.getSourceCategoryName());
             rawData.setSourceSubcategory(decoded.getSourceSubcategoryName());
@@ -141,6 +151,8 @@ public class DisasterDataProcessServiceImpl implements DisasterDataProcessServic
             // 保存到数据库
             RawData saved = rawDataRepository.save(rawData);
             log.info("数据解码并更新成功: {}", saved.getId());
+            // 地名等位置信息由后台补全，不增加入库耗时
+            geoEnrichmentService.submit(saved);
 
             return Result.success("解码并更新成功", saved);
         } catch (Exception e) {
@@ -149,20 +161,21 @@ public class DisasterDataProcessServiceImpl implements DisasterDataProcessServic
         }
     }
 
+    /**
+     * 由离线行政区划数据取地理码最深一级的中心点作为灾情位置
+     *
+     * @return GeoJSON点，离线数据未收录时返回null
+     */
+    private GeoJsonPoint locate(String geoCode) {
+        AdminDivisionIndex.Division division = adminDivisionIndex.deepestWithCenter(geoCode);
+        return division != null ? new GeoJsonPoint(division.getLongitude(), division.getLatitude()) : null;
+    }
+
     /**
      * 从字符串中提取36位ID
      */
     private String extractIdFromString(String str) {
-        if (str == null) {
-            return null;
-        }
-
-        Matcher matcher = ID_PATTERN.matcher(str);
-        if (matcher.find()) {
-            return matcher.group();
-        }
-
-        return null;
+        return DisasterIdScanner.findFirst(str);
     }
 }
 
@@ -4,18 +4,51 @@ import com.example.module.entity.mongodb.RawData;
 import com.example.module.repository.mongodb.RawDataRepository;
 import com.example.module.service.DisasterDataQueryService;
 import com.example.module.service.DisasterDecodeService;
+import com.example.module.util.CursorPage;
+import com.example.module.util.CursorRequest;
 import com.example.module.util.DecodedId;
+import com.example.module.util.FieldProjection;
+import com.example.module.util.GeoCodeParser;
+import com.example.module.util.KeysetPager;
 import com.example.module.util.Result;
+import com.example.module.util.ReverseGeocodeIndex;
+import com.example.module.util.TimeCodeParser;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Example;
-import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPolygon;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * 灾情数据查询服务实现类
@@ -25,148 +58,458 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class DisasterDataQueryServiceImpl implements DisasterDataQueryService {
 
+    /**
+     * 圆形范围查询的最大半径（千米）
+     */
+    private static final double MAX_RADIUS_KM = 2000;
+
+    /**
+     * 矩形转多边形时纬线方向的顶点间隔（度）
+     */
+    private static final double BOX_EDGE_STEP = 1.0;
+
+    /**
+     * 分页查询的排序：灾情时间倒序
+     */
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "disaster_epoch_second", "_id");
+
+    /**
+     * 导出时每批从数据库读取的条数
+     */
+    private static final int EXPORT_BATCH_SIZE = 1000;
+
+    /**
+     * 导出时每写出多少条刷新一次输出
+     */
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+
+    private static final DateTimeFormatter CSV_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /**
+     * CSV 导出的列：列名（与 JSON 字段名一致）-> 取值
+     */
+    private static final Map<String, Function<RawData, Object>> CSV_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        CSV_COLUMNS.put("id", RawData::getId);
+        CSV_COLUMNS.put("disasterId", RawData::getDisasterId);
+        CSV_COLUMNS.put("disasterCategory", RawData::getDisasterCategory);
+        CSV_COLUMNS.put("disasterSubcategory", RawData::getDisasterSubcategory);
+        CSV_COLUMNS.put("disasterIndicator", RawData::getDisasterIndicator);
+        CSV_COLUMNS.put("sourceCategory", RawData::getSourceCategory);
+        CSV_COLUMNS.put("sourceSubcategory", RawData::getSourceSubcategory);
+        CSV_COLUMNS.put("carrierType", RawData::getCarrierType);
+        CSV_COLUMNS.put("disasterDateTime", RawData::getDisasterDateTime);
+        CSV_COLUMNS.put("geoCode", RawData::getGeoCode);
+        CSV_COLUMNS.put("provinceName", RawData::getProvinceName);
+        CSV_COLUMNS.put("cityName", RawData::getCityName);
+        CSV_COLUMNS.put("districtName", RawData::getDistrictName);
+        CSV_COLUMNS.put("formattedAddress", RawData::getFormattedAddress);
+        CSV_COLUMNS.put("longitude", r -> r.getLocation() != null ? r.getLocation().getX() : null);
+        CSV_COLUMNS.put("latitude", r -> r.getLocation() != null ? r.getLocation().getY() : null);
+        CSV_COLUMNS.put("decodedDescription", RawData::getDecodedDescription);
+        CSV_COLUMNS.put("dataType", RawData::getDataType);
+        CSV_COLUMNS.put("source", RawData::getSource);
+        CSV_COLUMNS.put("processed", RawData::getProcessed);
+        CSV_COLUMNS.put("createTime", RawData::getCreateTime);
+    }
+
     private final RawDataRepository rawDataRepository;
     private final DisasterDecodeService disasterDecodeService;
+    private final MongoTemplate mongoTemplate;
+    private final KeysetPager keysetPager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${disaster.pagination.max-size:500}")
+    private int maxPageSize;
 
     @Override
-    public Result<List<RawData>> queryByDisasterCategory(String category) {
+    public Result<CursorPage<?>> queryByDisasterCategory(String category, CursorRequest page,
+                                                         FieldProjection<RawData> projection) {
+        return findCursorPage(Criteria.where("disaster_category").is(category), page, projection, "根据灾害大类查询");
+    }
+
+    @Override
+    public Result<CursorPage<?>> queryByDisasterSubcategory(String subcategory, CursorRequest page,
+                                                            FieldProjection<RawData> projection) {
+        return findCursorPage(Criteria.where("disaster_subcategory").is(subcategory), page, projection, "根据灾害子类查询");
+    }
+
+    @Override
+    public Result<CursorPage<?>> queryBySource(String source, CursorRequest page,
+                                               FieldProjection<RawData> projection) {
+        return findCursorPage(Criteria.where("source_subcategory").is(source), page, projection, "根据来源查询");
+    }
+
+    @Override
+    public Result<CursorPage<?>> queryByCarrierType(String carrierType, CursorRequest page,
+                                                    FieldProjection<RawData> projection) {
+        return findCursorPage(Criteria.where("carrier_type").is(carrierType), page, projection, "根据载体类型查询");
+    }
+
+    @Override
+    public Result<CursorPage<?>> queryByGeoCode(String geoCode, CursorRequest page,
+                                                FieldProjection<RawData> projection) {
+        return findCursorPage(Criteria.where("geo_code").is(geoCode), page, projection, "根据地理码查询");
+    }
+
+    /**
+     * 游标分页：按灾情时间倒序，续页从上一页最后一条的 (disaster_epoch_second, _id) 之后读取
+     */
+    private Result<CursorPage<?>> findCursorPage(Criteria criteria, CursorRequest page,
+                                                 FieldProjection<RawData> projection, String action) {
         try {
-            List<RawData> dataList = rawDataRepository.findByDisasterCategory(category);
-            return Result.success(dataList);
+            return Result.success(keysetPager.find(RawData.class, criteria, "disaster_epoch_second",
+                    Sort.Direction.DESC, page, projection));
+        } catch (IllegalArgumentException e) {
+            return Result.error(400, e.getMessage());
         } catch (Exception e) {
-            log.error("根据灾害大类查询失败: {}", e.getMessage());
+            log.error("{}失败: {}", action, e.getMessage());
             return Result.error("查询失败: " + e.getMessage());
         }
     }
 
     @Override
-    public Result<List<RawData>> queryByDisasterSubcategory(String subcategory) {
+    public Result<CursorPage<?>> queryByGeoPrefix(String code, CursorRequest page, boolean countOnly,
+                                                  FieldProjection<RawData> projection) {
+        String prefix = GeoCodeParser.toPrefix(code);
+        if (prefix == null) {
+            return Result.error(400, "行政区划代码格式错误: " + code);
+        }
+        Criteria criteria = geoPrefixCriteria(prefix);
+        if (!countOnly) {
+            return findCursorPage(criteria, page, projection, "按行政区划层级查询");
+        }
         try {
-            List<RawData> dataList = rawDataRepository.findByDisasterSubcategory(subcategory);
-            return Result.success(dataList);
+            CursorPage<RawData> result = new CursorPage<>();
+            result.setItems(new ArrayList<>());
+            result.setTotal(mongoTemplate.count(new Query(criteria), RawData.class));
+            return Result.success(result);
         } catch (Exception e) {
-            log.error("根据灾害子类查询失败: {}", e.getMessage());
+            log.error("按行政区划层级统计失败: {}", e.getMessage());
             return Result.error("查询失败: " + e.getMessage());
         }
     }
 
+    /**
+     * 省、市、县区级前缀按 geo_province / geo_city / geo_district 等值匹配（各有"字段 + 灾情时间"复合索引，按时间翻页无需排序），
+     * 乡镇、村级按 geo_code 范围匹配（范围内的数据需按时间排序，只保留一页，范围越小代价越低）
+     */
+    private static Criteria geoPrefixCriteria(String prefix) {
+        switch (prefix.length()) {
+            case 2:
+                return Criteria.where("geo_province").is(prefix);
+            case 4:
+                return Criteria.where("geo_city").is(prefix);
+            case 6:
+                return Criteria.where("geo_district").is(prefix);
+            default:
+                return Criteria.where("geo_code").gte(padGeoCode(prefix, '0')).lte(padGeoCode(prefix, '9'));
+        }
+    }
+
+    /**
+     * 前缀补足到12位，得到该前缀下地理码范围的下界（补0）或上界（补9）
+     */
+    private static String padGeoCode(String prefix, char fill) {
+        StringBuilder sb = new StringBuilder(12).append(prefix);
+        while (sb.length() < 12) {
+            sb.append(fill);
+        }
+        return sb.toString();
+    }
+
     @Override
-    public Result<List<RawData>> queryBySource(String source) {
+    public Result<CursorPage<?>> queryByBoundingBox(double minLongitude, double minLatitude,
+                                                    double maxLongitude, double maxLatitude,
+                                                    SpatialQueryParams params, FieldProjection<RawData> projection) {
         try {
-            List<RawData> dataList = rawDataRepository.findBySourceSubcategory(source);
-            return Result.success(dataList);
+            if (!ReverseGeocodeIndex.isValidCoordinate(minLongitude, minLatitude)
+                    || !ReverseGeocodeIndex.isValidCoordinate(maxLongitude, maxLatitude)) {
+                return Result.error(400, "经纬度超出范围");
+            }
+            if (minLongitude >= maxLongitude || minLatitude >= maxLatitude) {
+                return Result.error(400, "矩形范围无效：最小经纬度必须小于最大经纬度");
+            }
+            if (maxLongitude - minLongitude >= 180) {
+                return Result.error(400, "矩形经度跨度必须小于180度");
+            }
+
+            // 2dsphere 索引不支持 $box，将矩形转换为多边形；纬线方向按1度加密顶点，使球面大圆边接近纬线
+            List<Point> ring = new ArrayList<>();
+            for (double lon = minLongitude; lon < maxLongitude; lon += BOX_EDGE_STEP) {
+                ring.add(new Point(lon, minLatitude));
+            }
+            ring.add(new Point(maxLongitude, minLatitude));
+            for (double lon = maxLongitude; lon > minLongitude; lon -= BOX_EDGE_STEP) {
+                ring.add(new Point(lon, maxLatitude));
+            }
+            ring.add(new Point(minLongitude, maxLatitude));
+            ring.add(new Point(minLongitude, minLatitude));
+            return Result.success(querySpatial(Criteria.where("location").within(new GeoJsonPolygon(ring)), params, projection));
+        } catch (IllegalArgumentException e) {
+            return Result.error(400, e.getMessage());
         } catch (Exception e) {
-            log.error("根据来源查询失败: {}", e.getMessage());
+            log.error("矩形范围查询失败: {}", e.getMessage());
             return Result.error("查询失败: " + e.getMessage());
         }
     }
 
     @Override
-    public Result<List<RawData>> queryByCarrierType(String carrierType) {
+    public Result<CursorPage<?>> queryByRadius(double longitude, double latitude, double radiusKm,
+                                               SpatialQueryParams params, FieldProjection<RawData> projection) {
         try {
-            List<RawData> dataList = rawDataRepository.findByCarrierType(carrierType);
-            return Result.success(dataList);
+            if (!ReverseGeocodeIndex.isValidCoordinate(longitude, latitude)) {
+                return Result.error(400, "经纬度超出范围");
+            }
+            if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+                return Result.error(400, "半径必须大于0且不超过" + (int) MAX_RADIUS_KM + "千米");
+            }
+
+            // $centerSphere 按球面距离计算，半径换算为弧度
+            Circle circle = new Circle(new Point(longitude, latitude), new Distance(radiusKm, Metrics.KILOMETERS));
+            return Result.success(querySpatial(Criteria.where("location").withinSphere(circle), params, projection));
+        } catch (IllegalArgumentException e) {
+            return Result.error(400, e.getMessage());
         } catch (Exception e) {
-            log.error("根据载体类型查询失败: {}", e.getMessage());
+            log.error("圆形范围查询失败: {}", e.getMessage());
             return Result.error("查询失败: " + e.getMessage());
         }
     }
 
     @Override
-    public Result<List<RawData>> queryByGeoCode(String geoCode) {
+    public Result<CursorPage<?>> queryByPolygon(List<double[]> coordinates, SpatialQueryParams params,
+                                                FieldProjection<RawData> projection) {
         try {
-            List<RawData> dataList = rawDataRepository.findByGeoCode(geoCode);
-            return Result.success(dataList);
+            if (coordinates == null || coordinates.size() < 3) {
+                return Result.error(400, "多边形至少需要3个顶点");
+            }
+            List<Point> ring = new ArrayList<>(coordinates.size() + 1);
+            for (int i = 0; i < coordinates.size(); i++) {
+                double[] coordinate = coordinates.get(i);
+                if (coordinate == null || coordinate.length != 2
+                        || !ReverseGeocodeIndex.isValidCoordinate(coordinate[0], coordinate[1])) {
+                    return Result.error(400, "第" + (i + 1) + "个顶点格式错误，应为[经度, 纬度]");
+                }
+                ring.add(new Point(coordinate[0], coordinate[1]));
+            }
+            // GeoJSON 多边形要求首尾顶点相同
+            if (!ring.get(0).equals(ring.get(ring.size() - 1))) {
+                ring.add(ring.get(0));
+            }
+            if (ring.size() < 4) {
+                return Result.error(400, "多边形至少需要3个不同的顶点");
+            }
+            return Result.success(querySpatial(Criteria.where("location").within(new GeoJsonPolygon(ring)), params, projection));
+        } catch (IllegalArgumentException e) {
+            return Result.error(400, e.getMessage());
         } catch (Exception e) {
-            log.error("根据地理码查询失败: {}", e.getMessage());
+            log.error("多边形范围查询失败: {}", e.getMessage());
             return Result.error("查询失败: " + e.getMessage());
         }
     }
 
+    /**
+     * 在空间条件上附加大类、时间过滤并按 _id 倒序游标分页，查询条件与 location_2dsphere_category_time 索引的字段一致
+     * 不按时间排序：2dsphere 索引无法提供时间顺序；按 _id 翻页时每页只保留 size 条，且顺序稳定，不会重复或遗漏
+     */
+    private CursorPage<?> querySpatial(Criteria spatial, SpatialQueryParams params,
+                                       FieldProjection<RawData> projection) {
+        SpatialQueryParams p = params != null ? params : new SpatialQueryParams();
+        appendEquals(spatial, "disaster_category", p.getDisasterCategory());
+        appendTimeRange(spatial, p.getStartTime(), p.getEndTime());
+        return keysetPager.find(RawData.class, spatial, "_id", Sort.Direction.DESC,
+                new CursorRequest(p.getCursor(), p.getSize(), p.isCount()), projection);
+    }
+
+    @Override
+    public Result<CursorPage<?>> queryByTimeRange(LocalDateTime start, LocalDateTime end, CursorRequest page,
+                                                  FieldProjection<RawData> projection) {
+        if (start != null && end != null && start.isAfter(end)) {
+            return Result.error(400, "开始时间不能晚于结束时间");
+        }
+        // 按纪元秒比较，命中 disaster_epoch_second 索引
+        Criteria criteria = new Criteria();
+        appendTimeRange(criteria, start, end);
+        return findCursorPage(criteria, page, projection, "根据时间范围查询");
+    }
+
     @Override
-    public Result<List<RawData>> queryByTimeRange(LocalDateTime start, LocalDateTime end) {
+    public Result<Page<?>> queryByMultipleConditions(DisasterQueryParams queryParams,
+                                                     FieldProjection<RawData> projection) {
         try {
-            List<RawData> dataList = rawDataRepository.findByDisasterDateTimeBetween(start, end);
-            return Result.success(dataList);
+            DisasterQueryParams p = queryParams != null ? queryParams : new DisasterQueryParams();
+            if (p.getStartTime() != null && p.getEndTime() != null && p.getStartTime().isAfter(p.getEndTime())) {
+                return Result.error(400, "开始时间不能晚于结束时间");
+            }
+
+            // 全部条件在数据库端执行，只取当前页
+            return Result.success(findPage(conditionsCriteria(p), p.getPage(), p.getSize(), projection));
         } catch (Exception e) {
-            log.error("根据时间范围查询失败: {}", e.getMessage());
+            log.error("综合查询失败: {}", e.getMessage());
             return Result.error("查询失败: " + e.getMessage());
         }
     }
 
     @Override
-    public Result<List<RawData>> queryByMultipleConditions(DisasterQueryParams queryParams) {
+    public long exportByMultipleConditions(DisasterQueryParams queryParams, ExportFormat format,
+                                           OutputStream outputStream) throws IOException {
+        DisasterQueryParams p = queryParams != null ? queryParams : new DisasterQueryParams();
+        if (p.getStartTime() != null && p.getEndTime() != null && p.getStartTime().isAfter(p.getEndTime())) {
+            throw new IllegalArgumentException("开始时间不能晚于结束时间");
+        }
+        Query query = new Query(conditionsCriteria(p)).with(LATEST_FIRST).cursorBatchSize(EXPORT_BATCH_SIZE);
+
+        long startTime = System.currentTimeMillis();
+        long count = 0;
+        // 游标在导出结束、客户端断开或出错时关闭
+        try (CloseableIterator<RawData> cursor = mongoTemplate.stream(query, RawData.class)) {
+            if (format == ExportFormat.CSV) {
+                count = writeCsv(cursor, outputStream);
+            } else {
+                count = writeNdjson(cursor, outputStream);
+            }
+        } catch (IOException e) {
+            log.warn("导出中断（已写出{}条）: {}", count, e.getMessage());
+            throw e;
+        }
+        log.info("导出完成：{}条，格式{}，耗时{}ms", count, format, System.currentTimeMillis() - startTime);
+        return count;
+    }
+
+    private long writeNdjson(CloseableIterator<RawData> cursor, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(outputStream, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        long count = 0;
         try {
-            // 构建查询条件
-            RawData example = new RawData();
-            
-            if (queryParams.getDisasterCategory() != null) {
-                example.setDisasterCategory(queryParams.getDisasterCategory());
-            }
-            if (queryParams.getDisasterSubcategory() != null) {
-                example.setDisasterSubcategory(queryParams.getDisasterSubcategory());
-            }
-            if (queryParams.getSource() != null) {
-                example.setSourceSubcategory(queryParams.getSource());
-            }
-            if (queryParams.getCarrierType() != null) {
-                example.setCarrierType(queryParams.getCarrierType());
-            }
-            if (queryParams.getGeoCode() != null) {
-                example.setGeoCode(queryParams.getGeoCode());
-            }
-
-            ExampleMatcher matcher = ExampleMatcher.matching()
-                    .withIgnoreNullValues()
-                    .withStringMatcher(ExampleMatcher.StringMatcher.EXACT);
-
-            Example<RawData> exampleQuery = Example.of(example, matcher);
-            
-            List<RawData> dataList;
-            
-            // 如果有时间范围，需要额外过滤
-            if (queryParams.getStartTime() != null || queryParams.getEndTime() != null) {
-                dataList = rawDataRepository.findAll(exampleQuery);
-                // 手动过滤时间范围
-                List<RawData> filteredList = new ArrayList<>();
-                for (RawData data : dataList) {
-                    LocalDateTime dateTime = data.getDisasterDateTime();
-                    if (dateTime != null) {
-                        boolean inRange = true;
-                        if (queryParams.getStartTime() != null && dateTime.isBefore(queryParams.getStartTime())) {
-                            inRange = false;
-                        }
-                        if (queryParams.getEndTime() != null && dateTime.isAfter(queryParams.getEndTime())) {
-                            inRange = false;
-                        }
-                        if (inRange) {
-                            filteredList.add(data);
-                        }
+            while (cursor.hasNext()) {
+                generator.writeObject(cursor.next());
+                generator.writeRaw('\n');
+                if (++count % EXPORT_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        } catch (RuntimeException e) {
+            // 响应已开始写出，无法再返回错误码：末尾追加错误行，客户端据此判断导出不完整
+            log.error("导出中断（已写出{}条）: {}", count, e.getMessage());
+            generator.writeStartObject();
+            generator.writeStringField("error", "导出中断: " + e.getMessage());
+            generator.writeNumberField("exportedCount", count);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        generator.close();
+        return count;
+    }
+
+    private long writeCsv(CloseableIterator<RawData> cursor, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write('\uFEFF');
+        writer.write(String.join(",", CSV_COLUMNS.keySet()));
+        writer.write("\r\n");
+        long count = 0;
+        try {
+            while (cursor.hasNext()) {
+                RawData rawData = cursor.next();
+                boolean first = true;
+                for (Function<RawData, Object> column : CSV_COLUMNS.values()) {
+                    if (!first) {
+                        writer.write(',');
                     }
+                    writer.write(csvValue(column.apply(rawData)));
+                    first = false;
                 }
-                dataList = filteredList;
-            } else {
-                dataList = rawDataRepository.findAll(exampleQuery);
-            }
-
-            // 分页处理
-            if (queryParams.getPage() != null && queryParams.getSize() != null) {
-                int page = queryParams.getPage() > 0 ? queryParams.getPage() - 1 : 0;
-                int size = queryParams.getSize() > 0 ? queryParams.getSize() : 10;
-                int start = page * size;
-                int end = Math.min(start + size, dataList.size());
-                if (start < dataList.size()) {
-                    dataList = dataList.subList(start, end);
-                } else {
-                    dataList = new ArrayList<>();
+                writer.write("\r\n");
+                if (++count % EXPORT_FLUSH_INTERVAL == 0) {
+                    writer.flush();
                 }
             }
+        } catch (RuntimeException e) {
+            log.error("导出中断（已写出{}条）: {}", count, e.getMessage());
+            writer.write("#ERROR," + csvValue("导出中断（已写出" + count + "条）: " + e.getMessage()) + "\r\n");
+        }
+        writer.flush();
+        return count;
+    }
 
-            return Result.success(dataList);
-        } catch (Exception e) {
-            log.error("综合查询失败: {}", e.getMessage());
-            return Result.error("查询失败: " + e.getMessage());
+    /**
+     * CSV 单元格：含逗号、引号、换行时加引号；以 = + - @ 开头的文本前加单引号，避免被表格软件当作公式执行
+     */
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof LocalDateTime) {
+            return CSV_TIME_FORMAT.format((LocalDateTime) value);
+        }
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    /**
+     * 综合查询条件：各字段等值 + 灾情时间范围
+     */
+    private static Criteria conditionsCriteria(DisasterQueryParams p) {
+        Criteria criteria = new Criteria();
+        appendEquals(criteria, "disaster_category", p.getDisasterCategory());
+        appendEquals(criteria, "disaster_subcategory", p.getDisasterSubcategory());
+        appendEquals(criteria, "source_subcategory", p.getSource());
+        appendEquals(criteria, "carrier_type", p.getCarrierType());
+        appendEquals(criteria, "geo_code", p.getGeoCode());
+        appendTimeRange(criteria, p.getStartTime(), p.getEndTime());
+        return criteria;
+    }
+
+    private static void appendEquals(Criteria criteria, String field, String value) {
+        if (value != null && !value.isEmpty()) {
+            criteria.and(field).is(value);
+        }
+    }
+
+    /**
+     * 按纪元秒附加灾情时间范围（包含两端），命中 disaster_epoch_second 索引
+     */
+    private static void appendTimeRange(Criteria criteria, LocalDateTime start, LocalDateTime end) {
+        if (start == null && end == null) {
+            return;
+        }
+        Criteria time = criteria.and("disaster_epoch_second");
+        if (start != null) {
+            time.gte(TimeCodeParser.toEpochSecond(start));
+        }
+        if (end != null) {
+            time.lte(TimeCodeParser.toEpochSecond(end));
+        }
+    }
+
+    /**
+     * 分页查询：数据库端 skip/limit 只取当前页；总数在当前页不满时由已取数据推算，否则执行一次 count
+     */
+    private Page<?> findPage(Criteria criteria, Integer page, Integer size, FieldProjection<RawData> projection) {
+        int pageIndex = page != null && page > 0 ? page - 1 : 0;
+        int pageSize = size != null && size > 0 ? Math.min(size, maxPageSize) : 20;
+        return findPage(criteria, PageRequest.of(pageIndex, pageSize, LATEST_FIRST), projection);
+    }
+
+    /**
+     * 有投影时只读取投影字段，每条数据为只含投影属性的 Map
+     */
+    private Page<?> findPage(Criteria criteria, Pageable pageable, FieldProjection<RawData> projection) {
+        Query query = new Query(criteria).with(pageable);
+        if (projection != null) {
+            projection.applyTo(query);
         }
+        List<RawData> content = mongoTemplate.find(query, RawData.class);
+        Page<RawData> result = PageableExecutionUtils.getPage(content, pageable,
+                () -> mongoTemplate.count(Query.of(query).limit(0).skip(0), RawData.class));
+        return projection != null ? result.map(projection::toMap) : result;
     }
 
     @Override
@@ -183,7 +526,7 @@ public class DisasterDataQueryServiceImpl implements DisasterDataQueryService {
 
             // 如果数据中有disasterId，进行解码
             if (rawData.getDisasterId() != null) {
-                Result<DecodedId> decodeResult = disasterDecodeService.decodeId(rawData.getDisasterId());
+                Result<DecodedId> decodeResult = disasterDecodeService.decodeId(rawData.getDisasterId().toString());
                 if (decodeResult.getCode() == 200 && decodeResult.getData() != null) {
                     detail.setDecodedId(decodeResult.getData());
                 }
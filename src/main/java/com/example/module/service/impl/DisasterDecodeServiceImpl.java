@@ -2,11 +2,24 @@ package com.example.module.service.impl;
 
 import com.example.module.service.DisasterDecodeService;
 import com.example.module.util.DecodedId;
-import com.example.module.util.DisasterIdDecoder;
+import com.example.module.util.DecodedIdCache;
+import com.example.module.util.FastDisasterIdDecoder;
+import com.example.module.util.ParallelBatchExecutor;
 import com.example.module.util.Result;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,8 +28,22 @@ import java.util.List;
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class DisasterDecodeServiceImpl implements DisasterDecodeService {
 
+    // 流式解码时单行的最大长度，超出部分不再缓存
+    private static final int MAX_LINE_LENGTH = 1024;
+
+    // 流式解码时每写出多少条结果刷新一次输出
+    private static final int STREAM_FLUSH_INTERVAL = 256;
+
+    // 流式解码时距上次刷新超过该时间（纳秒）也刷新输出
+    private static final long STREAM_FLUSH_NANOS = 200_000_000L;
+
+    private final ObjectMapper objectMapper;
+    private final ParallelBatchExecutor batchDecodeExecutor;
+    private final DecodedIdCache decodedIdCache;
+
     @Override
     public Result<DecodedId> decodeId(String id) {
         try {
@@ -24,7 +51,7 @@ public class DisasterDecodeServiceImpl implements DisasterDecodeService {
                 return Result.error("ID不能为空");
             }
 
-            DecodedId decoded = DisasterIdDecoder.decode(id.trim());
+            DecodedId decoded = decodedIdCache.decode(id.trim());
             return Result.success("解码成功", decoded);
         } catch (IllegalArgumentException e) {
             log.error("ID解码失败: {}", e.getMessage());
@@ -42,22 +69,16 @@ public class DisasterDecodeServiceImpl implements DisasterDecodeService {
                 return Result.error("ID列表不能为空");
             }
 
+            // 批量较大时并行解码，结果与输入顺序一致
+            List<Result<DecodedId>> itemResults = batchDecodeExecutor.map(ids, this::decodeBatchItem);
+
             List<DecodedId> decodedList = new ArrayList<>();
             List<String> errors = new ArrayList<>();
-
-            for (int i = 0; i < ids.size(); i++) {
-                String id = ids.get(i);
-                if (id == null || id.trim().isEmpty()) {
-                    errors.add("第" + (i + 1) + "个ID为空");
-                    continue;
-                }
-
-                try {
-                    DecodedId decoded = DisasterIdDecoder.decode(id.trim());
-                    decodedList.add(decoded);
-                } catch (Exception e) {
-                    errors.add("第" + (i + 1) + "个ID解码失败: " + e.getMessage());
-                    log.warn("批量解码中第{}个ID失败: {}", i + 1, id);
+            for (Result<DecodedId> itemResult : itemResults) {
+                if (itemResult.getData() != null) {
+                    decodedList.add(itemResult.getData());
+                } else {
+                    errors.add(itemResult.getMessage());
                 }
             }
 
@@ -77,6 +98,87 @@ public class DisasterDecodeServiceImpl implements DisasterDecodeService {
         }
     }
 
+    /**
+     * 解码批量中的一个ID，失败时返回带错误信息的结果
+     */
+    private Result<DecodedId> decodeBatchItem(int index, String id) {
+        if (id == null || id.trim().isEmpty()) {
+            return Result.error(400, "第" + (index + 1) + "个ID为空");
+        }
+
+        try {
+            return Result.success(decodedIdCache.decode(id.trim()));
+        } catch (Exception e) {
+            log.warn("批量解码中第{}个ID失败: {}", index + 1, id);
+            return Result.error(400, "第" + (index + 1) + "个ID解码失败: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void streamDecodeIds(InputStream inputStream, OutputStream outputStream) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        JsonGenerator generator = objectMapper.createGenerator(outputStream, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        StringBuilder line = new StringBuilder();
+        long lineNumber = 0;
+        long successCount = 0;
+        long failCount = 0;
+        int pending = 0;
+        long lastFlush = System.nanoTime();
+        int length;
+        while ((length = readLine(reader, line)) >= 0) {
+            lineNumber++;
+            String id = line.toString().trim();
+            if (id.isEmpty()) {
+                continue;
+            }
+
+            generator.writeStartObject();
+            generator.writeNumberField("line", lineNumber);
+            if (length > MAX_LINE_LENGTH) {
+                generator.writeBooleanField("success", false);
+                generator.writeStringField("error", "第" + lineNumber + "行过长: " + length + "个字符");
+                failCount++;
+            } else {
+                generator.writeStringField("id", id);
+                try {
+                    // 流式解码多为一次性的大批量数据，不经过缓存，避免挤出常用ID
+                    DecodedId decoded = FastDisasterIdDecoder.decode(id);
+                    generator.writeBooleanField("success", true);
+                    generator.writeObjectField("data", decoded);
+                    successCount++;
+                } catch (IllegalArgumentException e) {
+                    generator.writeBooleanField("success", false);
+                    generator.writeStringField("error", e.getMessage());
+                    failCount++;
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+
+            // 攒满一批、输入暂时读空（下一次读取会阻塞）或距上次刷新超过间隔时刷新，
+            // 使客户端在上传结束前即可收到已解码的结果
+            if (++pending >= STREAM_FLUSH_INTERVAL || !reader.ready()
+                    || System.nanoTime() - lastFlush >= STREAM_FLUSH_NANOS) {
+                generator.flush();
+                pending = 0;
+                lastFlush = System.nanoTime();
+            }
+        }
+
+        generator.writeStartObject();
+        generator.writeBooleanField("summary", true);
+        generator.writeNumberField("total", successCount + failCount);
+        generator.writeNumberField("successCount", successCount);
+        generator.writeNumberField("failCount", failCount);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        generator.close();
+        log.info("流式解码完成：成功{}个，失败{}个", successCount, failCount);
+    }
+
     @Override
     public Result<Boolean> validateId(String id) {
         try {
@@ -84,12 +186,43 @@ public class DisasterDecodeServiceImpl implements DisasterDecodeService {
                 return Result.success("ID为空", false);
             }
 
-            boolean isValid = DisasterIdDecoder.isValid(id.trim());
+            boolean isValid = FastDisasterIdDecoder.isValid(id.trim());
             return Result.success(isValid ? "ID格式正确" : "ID格式不正确", isValid);
         } catch (Exception e) {
             log.error("ID验证异常: ", e);
             return Result.error("验证过程中发生异常: " + e.getMessage());
         }
     }
-}
 
+    @Override
+    public Result<DecodedIdCache.Stats> getCacheStats() {
+        return Result.success(decodedIdCache.stats());
+    }
+
+    @Override
+    public Result<DecodedIdCache.Stats> clearCache() {
+        decodedIdCache.clear();
+        log.info("解码缓存已清空");
+        return Result.success("解码缓存已清空", decodedIdCache.stats());
+    }
+
+    /**
+     * 读取一行（不含换行符）到line中，超过MAX_LINE_LENGTH的部分丢弃
+     *
+     * @return 该行的实际长度，已到达输入末尾时返回-1
+     */
+    private static int readLine(Reader reader, StringBuilder line) throws IOException {
+        line.setLength(0);
+        int length = 0;
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '\n') {
+                return length;
+            }
+            if (length++ < MAX_LINE_LENGTH) {
+                line.append((char) c);
+            }
+        }
+        return length > 0 ? length : -1;
+    }
+}
@@ -2,8 +2,11 @@ package com.example.module.service.impl;
 
 import com.example.module.service.FileDecodeService;
 import com.example.module.util.DecodedId;
-import com.example.module.util.DisasterIdDecoder;
+import com.example.module.util.DecodedIdCache;
+import com.example.module.util.DisasterIdScanner;
+import com.example.module.util.ParallelBatchExecutor;
 import com.example.module.util.Result;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
@@ -16,18 +19,17 @@ import java.io.FileInputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * 文件解码服务实现类
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class FileDecodeServiceImpl implements FileDecodeService {
 
-    // 用于从文件名中提取36位ID的正则表达式
-    private static final Pattern ID_PATTERN = Pattern.compile("\\d{36}");
+    private final ParallelBatchExecutor batchDecodeExecutor;
+    private final DecodedIdCache decodedIdCache;
 
     @Override
     public Result<FileDecodeResult> decodeFileName(String fileName) {
@@ -47,7 +49,7 @@ public class FileDecodeServiceImpl implements FileDecodeService {
                 result.setHasValidId(true);
                 try {
                     // 解码ID
-                    DecodedId decoded = DisasterIdDecoder.decode(extractedId);
+                    DecodedId decoded = decodedIdCache.decode(extractedId);
                     result.setDecodedId(decoded);
                     return Result.success("文件名解码成功", result);
                 } catch (Exception e) {
@@ -76,8 +78,10 @@ public class FileDecodeServiceImpl implements FileDecodeService {
             int successCount = 0;
             int failCount = 0;
 
-            for (String fileName : fileNames) {
-                Result<FileDecodeResult> result = decodeFileName(fileName);
+            // 批量较大时并行解码，结果与输入顺序一致
+            List<Result<FileDecodeResult>> itemResults =
+                    batchDecodeExecutor.map(fileNames, (index, fileName) -> decodeFileName(fileName));
+            for (Result<FileDecodeResult> result : itemResults) {
                 if (result.getCode() == 200 && result.getData() != null) {
                     results.add(result.getData());
                     if (result.getData().getHasValidId() != null && result.getData().getHasValidId()) {
@@ -215,7 +219,7 @@ public class FileDecodeServiceImpl implements FileDecodeService {
                     }
 
                     // 解码ID
-                    DecodedId decoded = DisasterIdDecoder.decode(extractedId);
+                    DecodedId decoded = decodedIdCache.decode(extractedId);
                     rowResult.setDecodedId(decoded);
                     rowResult.setSuccess(true);
                     successCount++;
@@ -344,16 +348,7 @@ public class FileDecodeServiceImpl implements FileDecodeService {
      * 从字符串中提取36位ID
      */
     private String extractIdFromString(String str) {
-        if (str == null) {
-            return null;
-        }
-
-        Matcher matcher = ID_PATTERN.matcher(str);
-        if (matcher.find()) {
-            return matcher.group();
-        }
-
-        return null;
+        return DisasterIdScanner.findFirst(str);
     }
 }
 
@@ -3,12 +3,16 @@ package com.example.module.service.impl;
 import com.example.module.entity.mongodb.FileMetadata;
 import com.example.module.repository.mongodb.FileMetadataRepository;
 import com.example.module.service.FileService;
+import com.example.module.util.CursorPage;
+import com.example.module.util.CursorRequest;
+import com.example.module.util.KeysetPager;
 import com.example.module.util.Result;
 import com.mongodb.client.gridfs.model.GridFSFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.gridfs.GridFsResource;
@@ -30,6 +34,7 @@ public class FileServiceImpl implements FileService {
     
     private final FileMetadataRepository fileMetadataRepository;
     private final GridFsTemplate gridFsTemplate;
+    private final KeysetPager keysetPager;
     
     @Value("${file.access.url:/api/files/access/}")
     private String accessUrl;
@@ -125,29 +130,37 @@ public class FileServiceImpl implements FileService {
     }
     
     @Override
-    public Result<List<FileMetadata>> getAllFiles() {
-        List<FileMetadata> files = fileMetadataRepository.findByStatus(1);
-        return Result.success(files);
+    public Result<CursorPage<FileMetadata>> getAllFiles(CursorRequest page) {
+        return findActiveFiles(new Criteria(), page);
     }
     
     @Override
-    public Result<List<FileMetadata>> getFilesByType(String fileType) {
-        List<FileMetadata> files = fileMetadataRepository.findByFileTypeAndStatus(fileType, 1);
-        return Result.success(files);
+    public Result<CursorPage<FileMetadata>> getFilesByType(String fileType, CursorRequest page) {
+        return findActiveFiles(Criteria.where("fileType").is(fileType), page);
     }
     
     @Override
-    public Result<List<FileMetadata>> getFilesByRelatedData(String relatedDataId, String relatedDataType) {
-        List<FileMetadata> files = fileMetadataRepository.findByRelatedDataIdAndRelatedDataType(relatedDataId, relatedDataType);
-        files = files.stream().filter(f -> f.getStatus() == 1).collect(Collectors.toList());
-        return Result.success(files);
+    public Result<CursorPage<FileMetadata>> getFilesByRelatedData(String relatedDataId, String relatedDataType,
+                                                                  CursorRequest page) {
+        return findActiveFiles(Criteria.where("relatedDataId").is(relatedDataId)
+                .and("relatedDataType").is(relatedDataType), page);
     }
     
     @Override
-    public Result<List<FileMetadata>> getUserFiles(Long userId) {
-        List<FileMetadata> files = fileMetadataRepository.findByUploadUserId(userId);
-        files = files.stream().filter(f -> f.getStatus() == 1).collect(Collectors.toList());
-        return Result.success(files);
+    public Result<CursorPage<FileMetadata>> getUserFiles(Long userId, CursorRequest page) {
+        return findActiveFiles(Criteria.where("uploadUserId").is(userId), page);
+    }
+    
+    /**
+     * 在条件上附加"状态正常"并按上传时间倒序分页
+     */
+    private Result<CursorPage<FileMetadata>> findActiveFiles(Criteria criteria, CursorRequest page) {
+        try {
+            criteria.and("status").is(1);
+            return Result.success(keysetPager.find(FileMetadata.class, criteria, "createTime", Sort.Direction.DESC, page));
+        } catch (IllegalArgumentException e) {
+            return Result.error(400, e.getMessage());
+        }
     }
     
     @Override
@@ -0,0 +1,270 @@
+package com.example.module.service.impl;
+
+import com.example.module.entity.mongodb.GeoCacheEntry;
+import com.example.module.repository.mongodb.GeoCacheEntryRepository;
+import com.example.module.service.GeoCacheService;
+import com.example.module.service.GeoLocationService.GeoLocationInfo;
+import com.example.module.util.Result;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 地理查询缓存服务实现类
+ * 查询顺序：进程内缓存 → geo_cache 集合 → 上游 loader；
+ * 同一键同时只有一个线程执行后两步，其余线程等待其结果。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeoCacheServiceImpl implements GeoCacheService {
+
+    /**
+     * 上游明确返回无匹配结果时使用的状态码，只有该状态码的错误会被否定缓存
+     */
+    private static final int NOT_FOUND = 404;
+
+    private final GeoCacheEntryRepository geoCacheEntryRepository;
+
+    // 成功结果的缓存时间（毫秒），默认7天
+    @Value("${disaster.geo.cache.ttl:604800000}")
+    private long ttl;
+
+    // 否定结果的缓存时间（毫秒），默认10分钟
+    @Value("${disaster.geo.cache.negative-ttl:600000}")
+    private long negativeTtl;
+
+    @Value("${disaster.geo.cache.maximum-size:10000}")
+    private int maximumSize;
+
+    // 是否启用 MongoDB 持久化缓存
+    @Value("${disaster.geo.cache.persistent:true}")
+    private boolean persistent;
+
+    // 等待同一键上正在进行的查询的最长时间（毫秒）
+    @Value("${disaster.geo.cache.wait-timeout:10000}")
+    private long waitTimeout;
+
+    private final LinkedHashMap<String, MemoryEntry> memory = new LinkedHashMap<>(256, 0.75f, true);
+    private final ConcurrentMap<String, CompletableFuture<Result<GeoLocationInfo>>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder persistentHits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    @Override
+    public Result<GeoLocationInfo> get(String key, Supplier<Result<GeoLocationInfo>> loader) {
+        MemoryEntry cached = getMemory(key);
+        if (cached != null) {
+            memoryHits.increment();
+            return toResult(cached);
+        }
+
+        CompletableFuture<Result<GeoLocationInfo>> future = new CompletableFuture<>();
+        CompletableFuture<Result<GeoLocationInfo>> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            coalesced.increment();
+            return await(key, running);
+        }
+
+        Result<GeoLocationInfo> result;
+        try {
+            result = load(key, loader);
+            future.complete(result);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+        return result;
+    }
+
+    @Override
+    public Result<GeoCacheStats> getStats() {
+        return Result.success(stats());
+    }
+
+    @Override
+    public Result<GeoCacheStats> clear() {
+        try {
+            synchronized (memory) {
+                memory.clear();
+            }
+            if (persistent) {
+                geoCacheEntryRepository.deleteAll();
+            }
+            log.info("地理查询缓存已清空");
+            return Result.success("地理查询缓存已清空", stats());
+        } catch (Exception e) {
+            log.error("清空地理查询缓存失败: ", e);
+            return Result.error("清空地理查询缓存失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 由持有该键的线程执行：再查一次内存（可能刚被其他线程写入）、查持久化缓存、调用上游
+     */
+    private Result<GeoLocationInfo> load(String key, Supplier<Result<GeoLocationInfo>> loader) {
+        MemoryEntry cached = getMemory(key);
+        if (cached != null) {
+            memoryHits.increment();
+            return toResult(cached);
+        }
+
+        GeoCacheEntry stored = findPersistent(key);
+        if (stored != null) {
+            persistentHits.increment();
+            MemoryEntry entry = new MemoryEntry(stored.getValue(), Boolean.TRUE.equals(stored.getNegative()),
+                    stored.getMessage(), expireMillis(stored.getExpireAt()));
+            putMemory(key, entry);
+            return toResult(entry);
+        }
+
+        loads.increment();
+        Result<GeoLocationInfo> result = loader.get();
+        boolean success = result.getCode() != null && result.getCode() == 200 && result.getData() != null;
+        boolean notFound = result.getCode() != null && result.getCode() == NOT_FOUND;
+        if (success || notFound) {
+            long now = System.currentTimeMillis();
+            MemoryEntry entry = new MemoryEntry(success ? result.getData() : null, notFound, result.getMessage(),
+                    now + (notFound ? negativeTtl : ttl));
+            putMemory(key, entry);
+            savePersistent(key, entry);
+        }
+        return result;
+    }
+
+    private Result<GeoLocationInfo> await(String key, CompletableFuture<Result<GeoLocationInfo>> running) {
+        try {
+            return running.get(waitTimeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("等待地理查询结果超时: {}", key);
+            return Result.error("等待地理查询结果超时");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.error("地理查询被中断");
+        } catch (Exception e) {
+            return Result.error("地理查询失败: " + e.getMessage());
+        }
+    }
+
+    private MemoryEntry getMemory(String key) {
+        synchronized (memory) {
+            MemoryEntry entry = memory.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expireAt <= System.currentTimeMillis()) {
+                memory.remove(key);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    private void putMemory(String key, MemoryEntry entry) {
+        synchronized (memory) {
+            memory.put(key, entry);
+            if (memory.size() > maximumSize) {
+                // 访问顺序的第一个元素即最久未使用的条目
+                memory.remove(memory.keySet().iterator().next());
+            }
+        }
+    }
+
+    private GeoCacheEntry findPersistent(String key) {
+        if (!persistent) {
+            return null;
+        }
+        try {
+            Optional<GeoCacheEntry> entry = geoCacheEntryRepository.findById(key);
+            // TTL 索引由后台任务定期清理，读取时仍需检查是否已过期
+            if (entry.isPresent() && entry.get().getExpireAt() != null
+                    && entry.get().getExpireAt().isAfter(LocalDateTime.now())) {
+                return entry.get();
+            }
+        } catch (Exception e) {
+            log.warn("读取地理查询持久化缓存失败: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private void savePersistent(String key, MemoryEntry entry) {
+        if (!persistent) {
+            return;
+        }
+        try {
+            GeoCacheEntry stored = new GeoCacheEntry();
+            stored.setKey(key);
+            stored.setValue(entry.value);
+            stored.setNegative(entry.negative);
+            stored.setMessage(entry.message);
+            stored.setCreateTime(LocalDateTime.now());
+            stored.setExpireAt(LocalDateTime.now().plus(Duration.ofMillis(entry.expireAt - System.currentTimeMillis())));
+            geoCacheEntryRepository.save(stored);
+        } catch (Exception e) {
+            log.warn("写入地理查询持久化缓存失败: {}", e.getMessage());
+        }
+    }
+
+    private Result<GeoLocationInfo> toResult(MemoryEntry entry) {
+        if (entry.negative) {
+            negativeHits.increment();
+            return Result.error(NOT_FOUND, entry.message);
+        }
+        return Result.success(entry.message, entry.value);
+    }
+
+    private static long expireMillis(LocalDateTime expireAt) {
+        return System.currentTimeMillis() + Duration.between(LocalDateTime.now(), expireAt).toMillis();
+    }
+
+    private GeoCacheStats stats() {
+        GeoCacheStats stats = new GeoCacheStats();
+        stats.setPersistent(persistent);
+        stats.setMaximumSize(maximumSize);
+        synchronized (memory) {
+            stats.setSize(memory.size());
+        }
+        stats.setMemoryHitCount(memoryHits.sum());
+        stats.setPersistentHitCount(persistentHits.sum());
+        stats.setNegativeHitCount(negativeHits.sum());
+        stats.setLoadCount(loads.sum());
+        stats.setCoalescedCount(coalesced.sum());
+        return stats;
+    }
+
+    /**
+     * 进程内缓存条目
+     */
+    private static final class MemoryEntry {
+        private final GeoLocationInfo value;
+        private final boolean negative;
+        private final String message;
+        private final long expireAt;
+
+        MemoryEntry(GeoLocationInfo value, boolean negative, String message, long expireAt) {
+            this.value = value;
+            this.negative = negative;
+            this.message = message;
+            this.expireAt = expireAt;
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.module.service.impl;
+
+import com.example.module.entity.mongodb.RawData;
+import com.example.module.service.GeoEnrichmentService;
+import com.example.module.service.GeoLocationService;
+import com.example.module.service.GeoLocationService.GeoLocationInfo;
+import com.example.module.util.Result;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 地理信息异步补全服务实现类
+ * 单个后台线程从队列中按批取出数据：地理码去重后调用批量定位，再以一次无序批量更新写回；
+ * 更新条件包含地理码，数据在排队期间被改为其他地理码时不会写入过期的位置。
+ * 只有各级行政区划都解析出名称时才写入 geo_enrich_time；未完整补全、队列满时被丢弃或停止时未处理的数据
+ * 由同一线程每隔 sweepInterval 按 _id 顺序取一批 geo_enrich_time 为空的数据重新入队，低速重试。
+ * 未能完整补全的每次尝试都累加 geo_enrich_attempts，达到 maxAttempts 的数据不再重新入队，
+ * 避免永远无法解析的地理码（离线数据和远程接口都未收录）被无限重试。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeoEnrichmentServiceImpl implements GeoEnrichmentService {
+
+    private final GeoLocationService geoLocationService;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${disaster.geo.enrichment.enabled:true}")
+    private boolean enabled;
+
+    @Value("${disaster.geo.enrichment.queue-capacity:10000}")
+    private int queueCapacity;
+
+    // 每批最多处理的数据条数
+    @Value("${disaster.geo.enrichment.batch-size:200}")
+    private int batchSize;
+
+    // 重新入队未补全数据的间隔（毫秒），0表示不重试
+    @Value("${disaster.geo.enrichment.sweep-interval:60000}")
+    private long sweepInterval;
+
+    // 未能完整补全的数据最多尝试次数，达到后不再重新入队，0表示不限
+    @Value("${disaster.geo.enrichment.max-attempts:5}")
+    private int maxAttempts;
+
+    private BlockingQueue<Task> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    // 仅由补全线程访问：下一次重新入队的时间和本轮遍历的位置（null表示从头开始）
+    private long nextSweep;
+    private String sweepCursor;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder enriched = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder partial = new LongAdder();
+    private final LongAdder swept = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("地理信息异步补全已关闭");
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        worker = new Thread(this::runWorker, "geo-enrichment");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("地理信息异步补全已启动：队列容量{}，批量{}，重试间隔{}ms，最多尝试{}次",
+                queueCapacity, batchSize, sweepInterval, maxAttempts);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+        if (!queue.isEmpty()) {
+            log.warn("地理信息异步补全已停止，{}条数据未处理", queue.size());
+        }
+    }
+
+    @Override
+    public boolean submit(RawData rawData) {
+        if (!running || rawData == null || rawData.getId() == null || rawData.getGeoCode() == null) {
+            return false;
+        }
+        if (!queue.offer(new Task(rawData.getId(), rawData.getGeoCode(), rawData.getLocation() == null))) {
+            dropped.increment();
+            return false;
+        }
+        submitted.increment();
+        return true;
+    }
+
+    @Override
+    public Result<GeoEnrichmentStats> getStats() {
+        GeoEnrichmentStats stats = new GeoEnrichmentStats();
+        stats.setEnabled(enabled);
+        stats.setQueueSize(queue != null ? queue.size() : 0);
+        stats.setQueueCapacity(queueCapacity);
+        stats.setSubmittedCount(submitted.sum());
+        stats.setDroppedCount(dropped.sum());
+        stats.setEnrichedCount(enriched.sum());
+        stats.setFailedCount(failed.sum());
+        stats.setPartialCount(partial.sum());
+        stats.setSweptCount(swept.sum());
+        stats.setBatchCount(batches.sum());
+        return Result.success(stats);
+    }
+
+    private void runWorker() {
+        List<Task> batch = new ArrayList<>(batchSize);
+        nextSweep = System.currentTimeMillis() + sweepInterval;
+        while (running) {
+            try {
+                if (sweepInterval > 0 && System.currentTimeMillis() >= nextSweep) {
+                    sweep();
+                }
+                Task first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                enrich(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                failed.add(batch.size());
+                log.error("地理信息补全失败（{}条）: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 按 _id 顺序取一批 geo_enrich_time 为空且尝试次数未达上限的数据重新入队，遍历到末尾后下一轮从头开始
+     * 队列剩余容量不足一批时跳过本轮，优先处理新入库的数据
+     */
+    private void sweep() {
+        nextSweep = System.currentTimeMillis() + sweepInterval;
+        if (queue.remainingCapacity() < batchSize) {
+            return;
+        }
+        try {
+            Criteria criteria = Criteria.where("geo_enrich_time").is(null)
+                    .and("geo_code").type(JsonSchemaObject.Type.stringType());
+            if (maxAttempts > 0) {
+                // $not 同时匹配没有尝试次数字段的数据
+                criteria.and("geo_enrich_attempts").not().gte(maxAttempts);
+            }
+            if (sweepCursor != null) {
+                criteria.and("_id").gt(sweepCursor);
+            }
+            Query query = new Query(criteria).with(Sort.by(Sort.Direction.ASC, "_id")).limit(batchSize);
+            query.fields().include("geo_code", "location");
+            List<RawData> pending = mongoTemplate.find(query, RawData.class);
+            sweepCursor = pending.size() < batchSize ? null : pending.get(pending.size() - 1).getId();
+            for (RawData rawData : pending) {
+                if (!queue.offer(new Task(rawData.getId(), rawData.getGeoCode(), rawData.getLocation() == null))) {
+                    break;
+                }
+                swept.increment();
+            }
+        } catch (Exception e) {
+            log.warn("读取未补全的数据失败: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 定位一批数据并批量写回位置字段
+     */
+    private void enrich(List<Task> batch) {
+        batches.increment();
+        Set<String> geoCodes = new LinkedHashSet<>();
+        for (Task task : batch) {
+            geoCodes.add(task.geoCode);
+        }
+        Result<List<GeoLocationInfo>> located = geoLocationService.batchLocateInBackground(new ArrayList<>(geoCodes));
+        if (located.getCode() != 200 || located.getData() == null) {
+            failed.add(batch.size());
+            log.warn("地理信息补全定位失败（{}条）: {}", batch.size(), located.getMessage());
+            return;
+        }
+        Map<String, GeoLocationInfo> byGeoCode = new HashMap<>();
+        for (GeoLocationInfo info : located.getData()) {
+            byGeoCode.put(info.getGeoCode(), info);
+        }
+
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RawData.class);
+        LocalDateTime now = LocalDateTime.now();
+        int updates = 0;
+        int complete = 0;
+        int incomplete = 0;
+        for (Task task : batch) {
+            GeoLocationInfo info = byGeoCode.get(task.geoCode);
+            Update update;
+            if (info == null) {
+                // 地理码无法定位，同样计入尝试次数
+                failed.increment();
+                update = new Update().inc("geo_enrich_attempts", 1);
+            } else {
+                if (info.getUnresolvedLevels() == 0) {
+                    complete++;
+                } else {
+                    incomplete++;
+                }
+                update = locationUpdate(task, info, now);
+            }
+            Query query = new Query(Criteria.where("_id").is(task.id).and("geo_code").is(task.geoCode));
+            operations.updateOne(query, update);
+            updates++;
+        }
+        if (updates > 0) {
+            operations.execute();
+        }
+        enriched.add(complete);
+        partial.add(incomplete);
+    }
+
+    /**
+     * 只包含位置相关字段的更新，空值不写入
+     * 有层级未能解析时先写入已解析的部分，不写 geo_enrich_time 并累加尝试次数，留待重试
+     */
+    private static Update locationUpdate(Task task, GeoLocationInfo info, LocalDateTime now) {
+        Update update = new Update();
+        if (info.getUnresolvedLevels() == 0) {
+            update.set("geo_enrich_time", now);
+        } else {
+            update.inc("geo_enrich_attempts", 1);
+        }
+        setIfPresent(update, "province_name", info.getProvince());
+        setIfPresent(update, "city_name", info.getCity());
+        setIfPresent(update, "district_name", info.getDistrict());
+        setIfPresent(update, "formatted_address", info.getFormattedAddress());
+        // 入库时已由离线中心点写入的位置保持不变
+        if (task.needsLocation && info.getLongitude() != null && info.getLatitude() != null) {
+            update.set("location", new GeoJsonPoint(info.getLongitude(), info.getLatitude()));
+        }
+        return update;
+    }
+
+    private static void setIfPresent(Update update, String field, String value) {
+        if (value != null && !value.isEmpty()) {
+            update.set(field, value);
+        }
+    }
+
+    /**
+     * 待补全的数据
+     */
+    private static final class Task {
+        private final String id;
+        private final String geoCode;
+        private final boolean needsLocation;
+
+        Task(String id, String geoCode, boolean needsLocation) {
+            this.id = id;
+            this.geoCode = geoCode;
+            this.needsLocation = needsLocation;
+        }
+    }
+}
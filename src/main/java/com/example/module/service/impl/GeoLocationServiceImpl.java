@@ -1,10 +1,16 @@
 package com.example.module.service.impl;
 
+import com.example.module.service.GeoCacheService;
 import com.example.module.service.GeoLocationService;
+import com.example.module.util.AdminDivisionIndex;
+import com.example.module.util.FanOutExecutor;
 import com.example.module.util.GeoCodeParser;
+import com.example.module.util.ProviderGuard;
 import com.example.module.util.Result;
+import com.example.module.util.ReverseGeocodeIndex;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
@@ -12,30 +18,70 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 地理信息服务实现类
- * 集成高德地图API进行地理信息解析
+ * 地理码定位和逆地理编码优先使用离线行政区划数据，离线数据无法匹配时使用高德地图API；
+ * 行政区划查询和地理编码的结果经 {@link GeoCacheService} 缓存，
+ * 需要远程查询的多个层级在 geoLookupExecutor 中并发执行（后台补全使用独立的 geoEnrichmentExecutor）；
+ * 高德API调用经 amapProviderGuard 限制并发并熔断，拒绝的调用（503）不缓存，按离线或已缓存结果降级
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class GeoLocationServiceImpl implements GeoLocationService {
 
+    private final AdminDivisionIndex adminDivisionIndex;
+    private final ReverseGeocodeIndex reverseGeocodeIndex;
+    private final GeoCacheService geoCacheService;
+    private final RestTemplate amapRestTemplate;
+    private final FanOutExecutor geoLookupExecutor;
+    private final FanOutExecutor geoEnrichmentExecutor;
+    private final ProviderGuard amapProviderGuard;
+
     @Value("${amap.api.key:514cde08eadb88096bcf0fe0a11f5e88}")
     private String amapApiKey;
 
     @Value("${amap.api.security:bed34790b035008203b5ea72cb23920d}")
     private String amapSecurity;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    // 离线数据未收录的行政区划是否回退到高德API查询
+    @Value("${disaster.geo.remote-fallback:true}")
+    private boolean remoteFallback;
+
+    // 地理码定位中远程查询的整体截止时间（毫秒）
+    @Value("${disaster.geo.lookup.deadline:5000}")
+    private long lookupDeadline;
+
+    // 离线逆地理编码时，查询点与最近行政区划中心点的最大距离（千米），超出视为未匹配
+    @Value("${disaster.geo.reverse.max-distance-km:50}")
+    private double reverseMaxDistanceKm;
+
+    // 批量定位单次最多处理的地理码数量
+    @Value("${disaster.geo.batch.max-size:10000}")
+    private int batchMaxSize;
+
+    // 高德API基础URL，测试时可指向本地桩服务
+    @Value("${amap.api.base-url:https://restapi.amap.com}")
+    private String amapBaseUrl;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    // 高德API基础URL
-    private static final String AMAP_GEOCODE_URL = "https://restapi.amap.com/v3/geocode/geo";
-    private static final String AMAP_REGEOCODE_URL = "https://restapi.amap.com/v3/geocode/regeo";
-    private static final String AMAP_DISTRICT_URL = "https://restapi.amap.com/v3/config/district";
+    // 高德API路径
+    private static final String AMAP_GEOCODE_PATH = "/v3/geocode/geo";
+    private static final String AMAP_REGEOCODE_PATH = "/v3/geocode/regeo";
+    private static final String AMAP_DISTRICT_PATH = "/v3/config/district";
 
     @Override
     public Result<GeoLocationInfo> getLocationByGeoCode(String geoCode) {
@@ -50,82 +96,296 @@ public class GeoLocationServiceImpl implements GeoLocationService {
                 return Result.error("地理码必须为12位");
             }
 
-            // 解析地理码的层级结构
-            GeoCodeParser.GeoCodeInfo geoCodeInfo = GeoCodeParser.parse(geoCode);
-            
-            GeoLocationInfo info = new GeoLocationInfo();
-            info.setGeoCode(geoCode);
-            info.setProvinceCode(geoCodeInfo.getProvinceCode());
-            info.setCityCode(geoCodeInfo.getCityCode());
-            info.setDistrictCode(geoCodeInfo.getDistrictCode());
-            info.setTownshipCode(geoCodeInfo.getTownshipCode());
-            info.setVillageCode(geoCodeInfo.getVillageCode());
-
-            // 使用高德地图行政区划查询API获取行政区划信息
-            // 首先查询省级信息
-            Result<GeoLocationInfo> provinceResult = queryDistrictByCode(geoCodeInfo.getProvinceLevelCode(), 1);
-            if (provinceResult.getCode() == 200 && provinceResult.getData() != null) {
-                GeoLocationInfo provinceInfo = provinceResult.getData();
-                info.setProvince(provinceInfo.getProvince());
-            }
+            GeoLocationInfo info = locateDistinct(Collections.singleton(geoCode), geoLookupExecutor).get(geoCode);
+            String message = info.getUnresolvedLevels() > 0
+                    ? "地理码定位成功，" + info.getUnresolvedLevels() + "个行政区划层级未能解析（名称留空）"
+                    : "地理码定位成功";
+            return Result.success(message, info);
+        } catch (Exception e) {
+            log.error("地理码定位异常: ", e);
+            return Result.error("地理码定位失败: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Result<List<GeoLocationInfo>> batchLocateByGeoCodes(List<String> geoCodes) {
+        return batchLocate(geoCodes, geoLookupExecutor);
+    }
+
+    @Override
+    public Result<List<GeoLocationInfo>> batchLocateInBackground(List<String> geoCodes) {
+        return batchLocate(geoCodes, geoEnrichmentExecutor);
+    }
 
-            // 查询市级信息
-            Result<GeoLocationInfo> cityResult = queryDistrictByCode(geoCodeInfo.getCityLevelCode(), 2);
-            if (cityResult.getCode() == 200 && cityResult.getData() != null) {
-                GeoLocationInfo cityInfo = cityResult.getData();
-                info.setCity(cityInfo.getCity());
+    private Result<List<GeoLocationInfo>> batchLocate(List<String> geoCodes, FanOutExecutor executor) {
+        try {
+            if (geoCodes == null || geoCodes.isEmpty()) {
+                return Result.error("地理码列表不能为空");
+            }
+            if (geoCodes.size() > batchMaxSize) {
+                return Result.error(400, "单次最多定位" + batchMaxSize + "个地理码");
             }
 
-            // 查询县级信息
-            Result<GeoLocationInfo> districtResult = queryDistrictByCode(geoCodeInfo.getDistrictLevelCode(), 3);
-            if (districtResult.getCode() == 200 && districtResult.getData() != null) {
-                GeoLocationInfo districtInfo = districtResult.getData();
-                info.setDistrict(districtInfo.getDistrict());
+            Set<String> distinct = new LinkedHashSet<>();
+            int invalidCount = 0;
+            for (String geoCode : geoCodes) {
+                if (GeoCodeParser.isValid(geoCode)) {
+                    distinct.add(geoCode);
+                } else {
+                    invalidCount++;
+                }
+            }
+            if (distinct.isEmpty()) {
+                return Result.error(400, "所有地理码格式错误（必须为12位数字）");
             }
 
-            // 查询乡镇级信息
-            Result<GeoLocationInfo> townshipResult = queryDistrictByCode(geoCodeInfo.getTownshipLevelCode(), 4);
-            if (townshipResult.getCode() == 200 && townshipResult.getData() != null) {
-                GeoLocationInfo townshipInfo = townshipResult.getData();
-                info.setTownship(townshipInfo.getTownship());
+            // 按去重后的地理码定位，再按输入顺序分发结果
+            Map<String, GeoLocationInfo> located = locateDistinct(distinct, executor);
+            List<GeoLocationInfo> results = new ArrayList<>(geoCodes.size() - invalidCount);
+            for (String geoCode : geoCodes) {
+                GeoLocationInfo info = geoCode == null ? null : located.get(geoCode);
+                if (info != null) {
+                    results.add(info);
+                }
+            }
+            int partialCount = 0;
+            for (GeoLocationInfo info : located.values()) {
+                if (info.getUnresolvedLevels() > 0) {
+                    partialCount++;
+                }
             }
 
-            // 构建完整地址并获取经纬度
-            StringBuilder addressBuilder = new StringBuilder();
-            if (info.getProvince() != null && !info.getProvince().isEmpty()) {
-                addressBuilder.append(info.getProvince());
+            String message = "成功定位" + results.size() + "个地理码（去重后" + distinct.size() + "个）";
+            if (invalidCount > 0) {
+                message += "，格式错误" + invalidCount + "个";
             }
-            if (info.getCity() != null && !info.getCity().isEmpty()) {
-                addressBuilder.append(info.getCity());
+            if (partialCount > 0) {
+                message += "，" + partialCount + "个地理码有行政区划层级未能解析（名称留空）";
             }
-            if (info.getDistrict() != null && !info.getDistrict().isEmpty()) {
-                addressBuilder.append(info.getDistrict());
+            return Result.success(message, results);
+        } catch (Exception e) {
+            log.error("批量地理码定位异常: ", e);
+            return Result.error("批量地理码定位失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 定位一组互不相同的地理码
+     * 离线数据未收录的层级代码在所有地理码之间去重，每个只远程查询一次（并发执行，整体受 lookupDeadline 限制）；
+     * 缺少中心点坐标的地理码按相同地址只做一次地理编码，查询结果再分发回各地理码。
+     *
+     * @param executor 执行远程查询的线程池
+     * @return 地理码到定位结果的映射
+     */
+    private Map<String, GeoLocationInfo> locateDistinct(Collection<String> geoCodes, FanOutExecutor executor) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lookupDeadline);
+
+        // 解析层级结构，收集需要远程查询的层级代码
+        Map<String, GeoCodeParser.GeoCodeInfo> parsed = new LinkedHashMap<>();
+        Map<String, AdminDivisionIndex.Division[]> paths = new HashMap<>();
+        Map<String, Integer> missingLevels = new LinkedHashMap<>();
+        for (String geoCode : geoCodes) {
+            GeoCodeParser.GeoCodeInfo geoCodeInfo = GeoCodeParser.parse(geoCode);
+            AdminDivisionIndex.Division[] path = adminDivisionIndex.resolve(geoCode);
+            parsed.put(geoCode, geoCodeInfo);
+            paths.put(geoCode, path);
+
+            String[] levelCodes = levelCodes(geoCodeInfo);
+            String[] segments = segments(geoCodeInfo);
+            for (int level = AdminDivisionIndex.PROVINCE; level <= AdminDivisionIndex.TOWNSHIP; level++) {
+                if (path[level] == null && !isZero(segments[level])) {
+                    missingLevels.putIfAbsent(levelCodes[level], level);
+                }
             }
-            if (info.getTownship() != null && !info.getTownship().isEmpty()) {
-                addressBuilder.append(info.getTownship());
+        }
+        Map<String, Result<GeoLocationInfo>> remoteResults = queryLevels(missingLevels, deadline, executor);
+
+        Map<String, GeoLocationInfo> located = new LinkedHashMap<>();
+        Map<String, List<GeoLocationInfo>> withoutCenter = new LinkedHashMap<>();
+        for (Map.Entry<String, GeoCodeParser.GeoCodeInfo> entry : parsed.entrySet()) {
+            GeoLocationInfo info = assemble(entry.getKey(), entry.getValue(), paths.get(entry.getKey()), remoteResults);
+            located.put(entry.getKey(), info);
+            if (!info.getFormattedAddress().isEmpty() && info.getLongitude() == null) {
+                withoutCenter.computeIfAbsent(info.getFormattedAddress(), k -> new ArrayList<>()).add(info);
             }
+        }
 
-            String address = addressBuilder.toString();
-            if (!address.isEmpty()) {
-                // 使用地理编码API获取经纬度
-                Result<GeoLocationInfo> geocodeResult = geocodeByAddress(address);
-                if (geocodeResult.getCode() == 200 && geocodeResult.getData() != null) {
-                    GeoLocationInfo geocodeInfo = geocodeResult.getData();
+        // 各级行政区划均无中心点坐标时，再通过地理编码API获取经纬度
+        if (!withoutCenter.isEmpty() && remoteFallback && System.nanoTime() < deadline) {
+            List<String> addresses = new ArrayList<>(withoutCenter.keySet());
+            List<Callable<Result<GeoLocationInfo>>> calls = new ArrayList<>(addresses.size());
+            for (String address : addresses) {
+                calls.add(() -> geocodeByAddress(address));
+            }
+            List<Result<GeoLocationInfo>> responses = executor.invokeAll(calls, deadline);
+            for (int i = 0; i < addresses.size(); i++) {
+                Result<GeoLocationInfo> geocodeResult = responses.get(i);
+                if (geocodeResult == null || geocodeResult.getCode() != 200 || geocodeResult.getData() == null) {
+                    continue;
+                }
+                GeoLocationInfo geocodeInfo = geocodeResult.getData();
+                for (GeoLocationInfo info : withoutCenter.get(addresses.get(i))) {
                     info.setLongitude(geocodeInfo.getLongitude());
                     info.setLatitude(geocodeInfo.getLatitude());
                     info.setFormattedAddress(geocodeInfo.getFormattedAddress());
                 }
             }
+        }
+        return located;
+    }
 
-            // 构建格式化地址
-            if (info.getFormattedAddress() == null || info.getFormattedAddress().isEmpty()) {
-                info.setFormattedAddress(address);
+    /**
+     * 由离线数据和远程查询结果组装单个地理码的定位信息（坐标取最深一级的中心点，格式化地址为拼接的行政区划名称）
+     */
+    private GeoLocationInfo assemble(String geoCode, GeoCodeParser.GeoCodeInfo geoCodeInfo,
+                                     AdminDivisionIndex.Division[] path,
+                                     Map<String, Result<GeoLocationInfo>> remoteResults) {
+        GeoLocationInfo info = new GeoLocationInfo();
+        info.setGeoCode(geoCode);
+        info.setProvinceCode(geoCodeInfo.getProvinceCode());
+        info.setCityCode(geoCodeInfo.getCityCode());
+        info.setDistrictCode(geoCodeInfo.getDistrictCode());
+        info.setTownshipCode(geoCodeInfo.getTownshipCode());
+        info.setVillageCode(geoCodeInfo.getVillageCode());
+
+        String[] levelCodes = levelCodes(geoCodeInfo);
+        String[] segments = segments(geoCodeInfo);
+        for (int level = AdminDivisionIndex.PROVINCE; level <= AdminDivisionIndex.TOWNSHIP; level++) {
+            if (isZero(segments[level])) {
+                continue;
+            }
+            AdminDivisionIndex.Division division = path[level];
+            if (division != null) {
+                setLevelName(info, level, division.getName());
+                if (division.hasCenter()) {
+                    info.setLongitude(division.getLongitude());
+                    info.setLatitude(division.getLatitude());
+                }
+            } else {
+                Result<GeoLocationInfo> levelResult = remoteResults.get(levelCodes[level]);
+                if (levelResult != null && levelResult.getCode() == 200 && levelResult.getData() != null) {
+                    GeoLocationInfo levelInfo = levelResult.getData();
+                    setLevelName(info, level, getLevelName(levelInfo, level));
+                    if (levelInfo.getLongitude() != null && levelInfo.getLatitude() != null) {
+                        info.setLongitude(levelInfo.getLongitude());
+                        info.setLatitude(levelInfo.getLatitude());
+                    }
+                }
+            }
+            String name = getLevelName(info, level);
+            if (name == null || name.isEmpty()) {
+                info.setUnresolvedLevels(info.getUnresolvedLevels() + 1);
             }
+        }
 
-            return Result.success("地理码定位成功", info);
-        } catch (Exception e) {
-            log.error("地理码定位异常: ", e);
-            return Result.error("地理码定位失败: " + e.getMessage());
+        // 构建完整地址
+        StringBuilder addressBuilder = new StringBuilder();
+        if (info.getProvince() != null && !info.getProvince().isEmpty()) {
+            addressBuilder.append(info.getProvince());
+        }
+        if (info.getCity() != null && !info.getCity().isEmpty() && !info.getCity().equals(info.getProvince())) {
+            // 直辖市的市级名称与省级相同，不重复拼接
+            addressBuilder.append(info.getCity());
+        }
+        if (info.getDistrict() != null && !info.getDistrict().isEmpty()) {
+            addressBuilder.append(info.getDistrict());
+        }
+        if (info.getTownship() != null && !info.getTownship().isEmpty()) {
+            addressBuilder.append(info.getTownship());
+        }
+        info.setFormattedAddress(addressBuilder.toString());
+        return info;
+    }
+
+    /**
+     * 并发查询离线数据未收录的层级代码
+     *
+     * @param missingLevels 层级代码（12位）到层级的映射
+     * @return 层级代码到查询结果的映射，未能在截止时间前完成的不包含在内
+     */
+    private Map<String, Result<GeoLocationInfo>> queryLevels(Map<String, Integer> missingLevels, long deadline,
+                                                          FanOutExecutor executor) {
+        Map<String, Result<GeoLocationInfo>> results = new HashMap<>();
+        if (!remoteFallback || missingLevels.isEmpty()) {
+            return results;
+        }
+        List<String> codes = new ArrayList<>(missingLevels.keySet());
+        List<Callable<Result<GeoLocationInfo>>> calls = new ArrayList<>(codes.size());
+        for (String code : codes) {
+            int level = missingLevels.get(code);
+            calls.add(() -> queryDistrictByCode(code, level));
+        }
+        List<Result<GeoLocationInfo>> responses = executor.invokeAll(calls, deadline);
+        int unfinished = 0;
+        for (int i = 0; i < codes.size(); i++) {
+            if (responses.get(i) == null) {
+                unfinished++;
+            } else {
+                results.put(codes.get(i), responses.get(i));
+            }
+        }
+        if (unfinished > 0) {
+            log.warn("{}个行政区划查询未在截止时间内完成（共{}个）", unfinished, codes.size());
+        }
+        return results;
+    }
+
+    /**
+     * 各层级的12位代码（下标为层级）
+     */
+    private static String[] levelCodes(GeoCodeParser.GeoCodeInfo geoCodeInfo) {
+        return new String[]{null, geoCodeInfo.getProvinceLevelCode(), geoCodeInfo.getCityLevelCode(),
+                geoCodeInfo.getDistrictLevelCode(), geoCodeInfo.getTownshipLevelCode()};
+    }
+
+    /**
+     * 各层级在地理码中的代码段（下标为层级）
+     */
+    private static String[] segments(GeoCodeParser.GeoCodeInfo geoCodeInfo) {
+        return new String[]{null, geoCodeInfo.getProvinceCode(), geoCodeInfo.getCityCode(),
+                geoCodeInfo.getDistrictCode(), geoCodeInfo.getTownshipCode()};
+    }
+
+    private static boolean isZero(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            if (segment.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void setLevelName(GeoLocationInfo info, int level, String name) {
+        switch (level) {
+            case AdminDivisionIndex.PROVINCE:
+                info.setProvince(name);
+                break;
+            case AdminDivisionIndex.CITY:
+                info.setCity(name);
+                break;
+            case AdminDivisionIndex.DISTRICT:
+                info.setDistrict(name);
+                break;
+            case AdminDivisionIndex.TOWNSHIP:
+                info.setTownship(name);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static String getLevelName(GeoLocationInfo info, int level) {
+        switch (level) {
+            case AdminDivisionIndex.PROVINCE:
+                return info.getProvince();
+            case AdminDivisionIndex.CITY:
+                return info.getCity();
+            case AdminDivisionIndex.DISTRICT:
+                return info.getDistrict();
+            case AdminDivisionIndex.TOWNSHIP:
+                return info.getTownship();
+            default:
+                return null;
         }
     }
 
@@ -134,9 +394,17 @@ public class GeoLocationServiceImpl implements GeoLocationService {
      * 
      * @param districtCode 行政区划代码（12位）
      * @param level 级别（1-省，2-市，3-县，4-乡镇）
-     * @return 地理位置信息
+     * @return 地理位置信息，无匹配结果时返回404
      */
     private Result<GeoLocationInfo> queryDistrictByCode(String districtCode, int level) {
+        return geoCacheService.get("district:" + level + ":" + districtCode,
+                () -> amapProviderGuard.execute("district", () -> requestDistrict(districtCode, level)));
+    }
+
+    /**
+     * 调用高德行政区划查询API
+     */
+    private Result<GeoLocationInfo> requestDistrict(String districtCode, int level) {
         try {
             // 构建请求参数
             Map<String, String> params = new HashMap<>();
@@ -147,7 +415,7 @@ public class GeoLocationServiceImpl implements GeoLocationService {
             params.put("output", "json");
 
             // 构建URL
-            StringBuilder urlBuilder = new StringBuilder(AMAP_DISTRICT_URL);
+            StringBuilder urlBuilder = new StringBuilder(amapBaseUrl).append(AMAP_DISTRICT_PATH);
             urlBuilder.append("?");
             for (Map.Entry<String, String> entry : params.entrySet()) {
                 urlBuilder.append(entry.getKey())
@@ -158,7 +426,7 @@ public class GeoLocationServiceImpl implements GeoLocationService {
             String url = urlBuilder.toString();
 
             // 调用高德API
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = amapRestTemplate.getForEntity(url, String.class);
             String responseBody = response.getBody();
 
             // 解析响应
@@ -208,7 +476,7 @@ public class GeoLocationServiceImpl implements GeoLocationService {
                 return Result.success("查询成功", info);
             }
 
-            return Result.error("未找到匹配的行政区划");
+            return Result.error(404, "未找到匹配的行政区划");
         } catch (Exception e) {
             log.warn("查询行政区划信息异常: {}", e.getMessage());
             return Result.error("查询失败: " + e.getMessage());
@@ -217,11 +485,107 @@ public class GeoLocationServiceImpl implements GeoLocationService {
 
     @Override
     public Result<GeoLocationInfo> getLocationByCoordinates(Double longitude, Double latitude) {
+        if (longitude == null || latitude == null) {
+            return Result.error("经纬度不能为空");
+        }
+        if (!ReverseGeocodeIndex.isValidCoordinate(longitude, latitude)) {
+            return Result.error(400, "经纬度超出范围");
+        }
+
+        // 优先在离线中心点索引中查找最近的行政区划
+        GeoLocationInfo local = reverseLocally(longitude, latitude, reverseMaxDistanceKm);
+        if (local != null) {
+            return Result.success("获取地理位置信息成功", local);
+        }
+        if (!remoteFallback) {
+            return Result.error(404, "附近没有已收录的行政区划");
+        }
+        Result<GeoLocationInfo> remote = amapProviderGuard.execute("regeocode",
+                () -> requestRegeocode(longitude, latitude));
+        if (remote.getCode() == 200 || remote.getCode() == 404) {
+            return remote;
+        }
+
+        // 高德API不可用（熔断、并发已满或调用失败）时降级为不限距离的最近离线行政区划
+        GeoLocationInfo nearest = reverseLocally(longitude, latitude, Double.POSITIVE_INFINITY);
+        if (nearest == null) {
+            return remote;
+        }
+        return Result.success("高德API暂不可用，返回最近的离线行政区划", nearest);
+    }
+
+    @Override
+    public Result<ProviderGuard.Stats> getProviderStats() {
+        return Result.success(amapProviderGuard.getStats());
+    }
+
+    @Override
+    public Result<List<GeoLocationInfo>> batchGetLocationByCoordinates(List<double[]> coordinates) {
         try {
-            if (longitude == null || latitude == null) {
-                return Result.error("经纬度不能为空");
+            if (coordinates == null || coordinates.isEmpty()) {
+                return Result.error("坐标列表不能为空");
+            }
+            if (coordinates.size() > batchMaxSize) {
+                return Result.error(400, "单次最多处理" + batchMaxSize + "个坐标");
+            }
+            for (int i = 0; i < coordinates.size(); i++) {
+                double[] coordinate = coordinates.get(i);
+                if (coordinate == null || coordinate.length != 2
+                        || !ReverseGeocodeIndex.isValidCoordinate(coordinate[0], coordinate[1])) {
+                    return Result.error(400, "第" + (i + 1) + "个坐标格式错误，应为[经度, 纬度]");
+                }
+            }
+
+            // 只使用离线索引，不发起网络请求；未匹配的坐标只返回经纬度
+            List<GeoLocationInfo> results = new ArrayList<>(coordinates.size());
+            int matchedCount = 0;
+            for (double[] coordinate : coordinates) {
+                GeoLocationInfo info = reverseLocally(coordinate[0], coordinate[1], reverseMaxDistanceKm);
+                if (info != null) {
+                    matchedCount++;
+                } else {
+                    info = new GeoLocationInfo();
+                    info.setLongitude(coordinate[0]);
+                    info.setLatitude(coordinate[1]);
+                }
+                results.add(info);
             }
 
+            String message = "成功匹配" + matchedCount + "个坐标";
+            if (matchedCount < coordinates.size()) {
+                message += "，未匹配" + (coordinates.size() - matchedCount) + "个";
+            }
+            return Result.success(message, results);
+        } catch (Exception e) {
+            log.error("批量逆地理编码异常: ", e);
+            return Result.error("批量逆地理编码失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 离线逆地理编码：取中心点最近的行政区划，并补全其各级上级名称
+     *
+     * @param maxDistanceKm 最近中心点的最大距离（千米）
+     * @return 定位信息（经纬度为查询点），最近中心点超出 maxDistanceKm 时返回null
+     */
+    private GeoLocationInfo reverseLocally(double longitude, double latitude, double maxDistanceKm) {
+        ReverseGeocodeIndex.Match match = reverseGeocodeIndex.nearest(longitude, latitude);
+        if (match == null || match.getDistanceKm() > maxDistanceKm) {
+            return null;
+        }
+        String code = match.getDivision().getCode();
+        GeoLocationInfo info = assemble(code, GeoCodeParser.parse(code), adminDivisionIndex.resolve(code),
+                Collections.emptyMap());
+        info.setLongitude(longitude);
+        info.setLatitude(latitude);
+        return info;
+    }
+
+    /**
+     * 调用高德逆地理编码API
+     */
+    private Result<GeoLocationInfo> requestRegeocode(Double longitude, Double latitude) {
+        try {
             // 构建请求参数
             Map<String, String> params = new HashMap<>();
             params.put("key", amapApiKey);
@@ -231,7 +595,7 @@ public class GeoLocationServiceImpl implements GeoLocationService {
             params.put("extensions", "all");
 
             // 构建URL
-            StringBuilder urlBuilder = new StringBuilder(AMAP_REGEOCODE_URL);
+            StringBuilder urlBuilder = new StringBuilder(amapBaseUrl).append(AMAP_REGEOCODE_PATH);
             urlBuilder.append("?");
             for (Map.Entry<String, String> entry : params.entrySet()) {
                 urlBuilder.append(entry.getKey()).append("=").append(entry.getValue()).append("&");
@@ -239,7 +603,7 @@ public class GeoLocationServiceImpl implements GeoLocationService {
             String url = urlBuilder.toString();
 
             // 调用高德API
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = amapRestTemplate.getForEntity(url, String.class);
             String responseBody = response.getBody();
 
             // 解析响应
@@ -276,13 +640,21 @@ public class GeoLocationServiceImpl implements GeoLocationService {
      * 根据地址进行地理编码（获取经纬度）
      * 
      * @param address 地址
-     * @return 地理位置信息
+     * @return 地理位置信息，无匹配结果时返回404
      */
     public Result<GeoLocationInfo> geocodeByAddress(String address) {
+        if (address == null || address.trim().isEmpty()) {
+            return Result.error("地址不能为空");
+        }
+        return geoCacheService.get("geocode:" + address,
+                () -> amapProviderGuard.execute("geocode", () -> requestGeocode(address)));
+    }
+
+    /**
+     * 调用高德地理编码API
+     */
+    private Result<GeoLocationInfo> requestGeocode(String address) {
         try {
-            if (address == null || address.trim().isEmpty()) {
-                return Result.error("地址不能为空");
-            }
 
             // 构建请求参数
             Map<String, String> params = new HashMap<>();
@@ -291,7 +663,7 @@ public class GeoLocationServiceImpl implements GeoLocationService {
             params.put("output", "json");
 
             // 构建URL
-            StringBuilder urlBuilder = new StringBuilder(AMAP_GEOCODE_URL);
+            StringBuilder urlBuilder = new StringBuilder(amapBaseUrl).append(AMAP_GEOCODE_PATH);
             urlBuilder.append("?");
             for (Map.Entry<String, String> entry : params.entrySet()) {
                 urlBuilder.append(entry.getKey()).append("=").append(entry.getValue()).append("&");
@@ -299,7 +671,7 @@ public class GeoLocationServiceImpl implements GeoLocationService {
             String url = urlBuilder.toString();
 
             // 调用高德API
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = amapRestTemplate.getForEntity(url, String.class);
             String responseBody = response.getBody();
 
             // 解析响应
@@ -330,7 +702,7 @@ public class GeoLocationServiceImpl implements GeoLocationService {
                 return Result.success("地理编码成功", info);
             }
 
-            return Result.error("未找到匹配的地理位置");
+            return Result.error(404, "未找到匹配的地理位置");
         } catch (Exception e) {
             log.error("地理编码异常: ", e);
             return Result.error("地理编码失败: " + e.getMessage());
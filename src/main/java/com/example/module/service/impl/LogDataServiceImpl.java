@@ -3,13 +3,17 @@ package com.example.module.service.impl;
 import com.example.module.entity.mongodb.LogData;
 import com.example.module.repository.mongodb.LogDataRepository;
 import com.example.module.service.LogDataService;
+import com.example.module.util.CursorPage;
+import com.example.module.util.CursorRequest;
+import com.example.module.util.KeysetPager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -17,6 +21,7 @@ import java.util.Optional;
 public class LogDataServiceImpl implements LogDataService {
     
     private final LogDataRepository logDataRepository;
+    private final KeysetPager keysetPager;
     
     @Override
     public LogData saveLogData(LogData logData) {
@@ -31,8 +36,21 @@ public class LogDataServiceImpl implements LogDataService {
     }
     
     @Override
-    public List<LogData> getAllLogData() {
-        return logDataRepository.findAll();
+    public CursorPage<LogData> getAllLogData(String level, LocalDateTime start, LocalDateTime end, CursorRequest page) {
+        Criteria criteria = new Criteria();
+        if (level != null && !level.isEmpty()) {
+            criteria.and("level").is(level);
+        }
+        if (start != null || end != null) {
+            Criteria time = criteria.and("timestamp");
+            if (start != null) {
+                time.gte(start);
+            }
+            if (end != null) {
+                time.lte(end);
+            }
+        }
+        return keysetPager.find(LogData.class, criteria, "timestamp", Sort.Direction.DESC, page);
     }
     
     @Override
@@ -41,13 +59,13 @@ public class LogDataServiceImpl implements LogDataService {
     }
     
     @Override
-    public List<LogData> getLogDataByLevel(String level) {
-        return logDataRepository.findByLevel(level);
+    public CursorPage<LogData> getLogDataByLevel(String level, CursorRequest page) {
+        return getAllLogData(level, null, null, page);
     }
     
     @Override
-    public List<LogData> getLogDataByTimeRange(LocalDateTime start, LocalDateTime end) {
-        return logDataRepository.findByTimestampBetween(start, end);
+    public CursorPage<LogData> getLogDataByTimeRange(LocalDateTime start, LocalDateTime end, CursorRequest page) {
+        return getAllLogData(null, start, end, page);
     }
     
     @Override
@@ -5,6 +5,10 @@ import com.example.module.entity.mongodb.RawData;
 import com.example.module.repository.mysql.ModuleRepository;
 import com.example.module.repository.mongodb.RawDataRepository;
 import com.example.module.service.ModuleService;
+import com.example.module.util.CursorPage;
+import com.example.module.util.CursorRequest;
+import com.example.module.util.FieldProjection;
+import com.example.module.util.KeysetPager;
 import com.example.module.util.Result;
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -15,6 +19,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +31,7 @@ public class ModuleServiceImpl implements ModuleService {
     
     private final ModuleRepository moduleRepository;
     private final RawDataRepository rawDataRepository;
+    private final KeysetPager keysetPager;
 
     @Override
     @Transactional
@@ -193,10 +200,14 @@ public class ModuleServiceImpl implements ModuleService {
     }
 
     @Override
-    public Result<List<RawData>> getRawDataByModuleId(Long moduleId) {
+    public Result<CursorPage<?>> getRawDataByModuleId(Long moduleId, CursorRequest page,
+                                                      FieldProjection<RawData> projection) {
         try {
-            List<RawData> rawDataList = rawDataRepository.findByModuleId(moduleId);
-            return Result.success(rawDataList);
+            // 命中 module_id_create_time 索引
+            return Result.success(keysetPager.find(RawData.class, Criteria.where("module_id").is(moduleId),
+                    "create_time", Sort.Direction.DESC, page, projection));
+        } catch (IllegalArgumentException e) {
+            return Result.error(400, e.getMessage());
         } catch (Exception e) {
             log.error("Failed to get raw data by module: {}", moduleId, e);
             return Result.error("Failed to get raw data: " + e.getMessage());
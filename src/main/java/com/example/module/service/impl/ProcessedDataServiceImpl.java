@@ -3,19 +3,30 @@ package com.example.module.service.impl;
 import com.example.module.entity.mongodb.ProcessedData;
 import com.example.module.repository.mongodb.ProcessedDataRepository;
 import com.example.module.service.ProcessedDataService;
+import com.example.module.util.CursorPage;
+import com.example.module.util.CursorRequest;
+import com.example.module.util.KeysetPager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProcessedDataServiceImpl implements ProcessedDataService {
     
+    /**
+     * processed_content 下可查询的字段名（字母、数字、下划线，可用点号表示嵌套）
+     */
+    private static final Pattern CONTENT_FIELD = Pattern.compile("\\w+(\\.\\w+)*");
+    
     private final ProcessedDataRepository processedDataRepository;
+    private final KeysetPager keysetPager;
     
     @Override
     public ProcessedData save(ProcessedData processedData) {
@@ -34,39 +45,58 @@ public class ProcessedDataServiceImpl implements ProcessedDataService {
     }
     
     @Override
-    public List<ProcessedData> findAll() {
-        log.debug("Finding all processed data");
-        return processedDataRepository.findAll();
+    public CursorPage<ProcessedData> findAll(String processType, Double minScore, Double maxScore, CursorRequest page) {
+        log.debug("Finding processed data, type: {}, confidence: [{}, {}]", processType, minScore, maxScore);
+        Criteria criteria = new Criteria();
+        if (processType != null && !processType.isEmpty()) {
+            criteria.and("process_type").is(processType);
+        }
+        if (minScore != null || maxScore != null) {
+            Criteria score = criteria.and("confidence_score");
+            if (minScore != null) {
+                score.gte(minScore);
+            }
+            if (maxScore != null) {
+                score.lte(maxScore);
+            }
+        }
+        return keysetPager.find(ProcessedData.class, criteria, "create_time", Sort.Direction.DESC, page);
     }
     
     @Override
-    public List<ProcessedData> findByProcessType(String processType) {
-        log.debug("Finding processed data by process type: {}", processType);
-        return processedDataRepository.findByProcessType(processType);
+    public CursorPage<ProcessedData> findByProcessType(String processType, CursorRequest page) {
+        return findAll(processType, null, null, page);
     }
     
     @Override
-    public List<ProcessedData> findByRawDataId(String rawDataId) {
+    public CursorPage<ProcessedData> findByRawDataId(String rawDataId, CursorRequest page) {
         log.debug("Finding processed data by raw data id: {}", rawDataId);
-        return processedDataRepository.findByRawDataId(rawDataId);
+        return keysetPager.find(ProcessedData.class, Criteria.where("raw_data_id").is(rawDataId),
+                "create_time", Sort.Direction.DESC, page);
     }
     
     @Override
-    public List<ProcessedData> findByConfidenceScoreGreaterThan(Double minScore) {
+    public CursorPage<ProcessedData> findByConfidenceScoreGreaterThan(Double minScore, CursorRequest page) {
         log.debug("Finding processed data with confidence score greater than: {}", minScore);
-        return processedDataRepository.findByConfidenceScoreGreaterThan(minScore);
+        return keysetPager.find(ProcessedData.class, Criteria.where("confidence_score").gt(minScore),
+                "confidence_score", Sort.Direction.DESC, page);
     }
     
     @Override
-    public List<ProcessedData> findByConfidenceScoreBetween(Double minScore, Double maxScore) {
+    public CursorPage<ProcessedData> findByConfidenceScoreBetween(Double minScore, Double maxScore, CursorRequest page) {
         log.debug("Finding processed data with confidence score between {} and {}", minScore, maxScore);
-        return processedDataRepository.findByConfidenceScoreBetween(minScore, maxScore);
+        return keysetPager.find(ProcessedData.class, Criteria.where("confidence_score").gte(minScore).lte(maxScore),
+                "confidence_score", Sort.Direction.DESC, page);
     }
     
     @Override
-    public List<ProcessedData> findByProcessedContentField(String field, Object value) {
+    public CursorPage<ProcessedData> findByProcessedContentField(String field, Object value, CursorRequest page) {
         log.debug("Finding processed data by field: {} with value: {}", field, value);
-        return processedDataRepository.findByProcessedContentField(field, value);
+        if (field == null || !CONTENT_FIELD.matcher(field).matches()) {
+            throw new IllegalArgumentException("字段名格式错误: " + field);
+        }
+        return keysetPager.find(ProcessedData.class, Criteria.where("processed_content." + field).is(value),
+                "create_time", Sort.Direction.DESC, page);
     }
     
     @Override
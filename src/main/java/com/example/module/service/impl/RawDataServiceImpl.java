@@ -4,13 +4,18 @@ import com.example.module.entity.mongodb.RawData;
 import com.example.module.repository.mongodb.RawDataRepository;
 import com.example.module.service.DisasterDataProcessService;
 import com.example.module.service.RawDataService;
+import com.example.module.util.CursorPage;
+import com.example.module.util.CursorRequest;
+import com.example.module.util.FieldProjection;
+import com.example.module.util.KeysetPager;
 import com.example.module.util.Result;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -20,15 +25,36 @@ public class RawDataServiceImpl implements RawDataService {
     
     private final RawDataRepository rawDataRepository;
     private final DisasterDataProcessService disasterDataProcessService;
+    private final KeysetPager keysetPager;
 
     @Override
-    public Result<List<RawData>> getAllRawData() {
+    public Result<CursorPage<?>> getAllRawData(String dataType, Boolean processed, LocalDateTime start,
+                                               LocalDateTime end, CursorRequest page,
+                                               FieldProjection<RawData> projection) {
         try {
-            List<RawData> dataList = rawDataRepository.findAll();
-            return Result.success(dataList);
+            Criteria criteria = new Criteria();
+            if (dataType != null && !dataType.isEmpty()) {
+                criteria.and("data_type").is(dataType);
+            }
+            if (processed != null) {
+                criteria.and("processed").is(processed);
+            }
+            if (start != null || end != null) {
+                Criteria time = criteria.and("create_time");
+                if (start != null) {
+                    time.gte(start);
+                }
+                if (end != null) {
+                    time.lte(end);
+                }
+            }
+            return Result.success(keysetPager.find(RawData.class, criteria, "create_time", Sort.Direction.DESC,
+                    page, projection));
+        } catch (IllegalArgumentException e) {
+            return Result.error(400, e.getMessage());
         } catch (Exception e) {
-            log.error("获取所有原始数据失败: {}", e.getMessage());
-            return Result.error("获取所有原始数据失败: " + e.getMessage());
+            log.error("获取原始数据失败: {}", e.getMessage());
+            return Result.error("获取原始数据失败: " + e.getMessage());
         }
     }
 
@@ -81,36 +107,20 @@ public class RawDataServiceImpl implements RawDataService {
     }
 
     @Override
-    public Result<List<RawData>> getRawDataByType(String dataType) {
-        try {
-            List<RawData> dataList = rawDataRepository.findByDataType(dataType);
-            return Result.success(dataList);
-        } catch (Exception e) {
-            log.error("根据类型获取原始数据失败: {}", e.getMessage());
-            return Result.error("根据类型获取原始数据失败: " + e.getMessage());
-        }
+    public Result<CursorPage<?>> getRawDataByType(String dataType, CursorRequest page,
+                                                  FieldProjection<RawData> projection) {
+        return getAllRawData(dataType, null, null, null, page, projection);
     }
 
     @Override
-    public Result<List<RawData>> getUnprocessedData() {
-        try {
-            List<RawData> dataList = rawDataRepository.findByProcessed(false);
-            return Result.success(dataList);
-        } catch (Exception e) {
-            log.error("获取未处理数据失败: {}", e.getMessage());
-            return Result.error("获取未处理数据失败: " + e.getMessage());
-        }
+    public Result<CursorPage<?>> getUnprocessedData(CursorRequest page, FieldProjection<RawData> projection) {
+        return getAllRawData(null, false, null, null, page, projection);
     }
 
     @Override
-    public Result<List<RawData>> getRawDataByTimeRange(LocalDateTime start, LocalDateTime end) {
-        try {
-            List<RawData> dataList = rawDataRepository.findByCreateTimeBetween(start, end);
-            return Result.success(dataList);
-        } catch (Exception e) {
-            log.error("根据时间范围获取数据失败: {}", e.getMessage());
-            return Result.error("根据时间范围获取数据失败: " + e.getMessage());
-        }
+    public Result<CursorPage<?>> getRawDataByTimeRange(LocalDateTime start, LocalDateTime end, CursorRequest page,
+                                                       FieldProjection<RawData> projection) {
+        return getAllRawData(null, null, start, end, page, projection);
     }
 
     @Override
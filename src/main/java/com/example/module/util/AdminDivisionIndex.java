@@ -0,0 +1,346 @@
+package com.example.module.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 行政区划前缀树（不可变）
+ * 按 {@link GeoCodeParser} 的层级切分地理码：省（第1-2位）→ 市（第3-4位）→ 县区（第5-6位）→ 乡镇（第7-9位），
+ * 每层以该段的整数值作为键，子节点保存为有序数组并二分查找。
+ * 一次定位只需沿树下降最多4层，不访问网络、不创建字符串。
+ *
+ * 数据文件为 UTF-8 文本，每行一条：行政区划代码,名称,中心点经度,中心点纬度；
+ * 代码可以是6位（省/市/县）、9位（乡镇）或12位，按末尾补零后的层级归类；以 # 开头的行为注释，
+ * 其中 "# version: xxx" 指定数据版本。
+ */
+public final class AdminDivisionIndex {
+
+    public static final int PROVINCE = 1;
+    public static final int CITY = 2;
+    public static final int DISTRICT = 3;
+    public static final int TOWNSHIP = 4;
+
+    /**
+     * 各层级在12位地理码中的结束位置（下标为层级）
+     */
+    private static final int[] LEVEL_END = {0, 2, 4, 6, 9};
+
+    private static final String VERSION_PREFIX = "version:";
+
+    private final Node root;
+    private final String version;
+    private final List<Division> divisions;
+
+    private AdminDivisionIndex(Node root, String version, List<Division> divisions) {
+        this.root = root;
+        this.version = version;
+        this.divisions = Collections.unmodifiableList(divisions);
+    }
+
+    /**
+     * 空索引（所有查询均无结果）
+     */
+    public static AdminDivisionIndex empty() {
+        return new AdminDivisionIndex(new Node(), "empty", new ArrayList<>());
+    }
+
+    /**
+     * 从数据文件加载
+     *
+     * @param reader 数据文件（不会被关闭）
+     * @throws IOException 读取失败
+     * @throws IllegalArgumentException 数据行格式错误
+     */
+    public static AdminDivisionIndex load(Reader reader) throws IOException {
+        BufferedReader in = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        BuilderNode root = new BuilderNode();
+        List<Division> divisions = new ArrayList<>();
+        String version = "unknown";
+
+        String line;
+        int lineNumber = 0;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            if (line.startsWith("#")) {
+                String comment = line.substring(1).trim();
+                if (comment.startsWith(VERSION_PREFIX)) {
+                    version = comment.substring(VERSION_PREFIX.length()).trim();
+                }
+                continue;
+            }
+
+            String[] columns = line.split(",");
+            if (columns.length < 2) {
+                throw new IllegalArgumentException("行政区划数据第" + lineNumber + "行格式错误: " + line);
+            }
+            String code = padCode(columns[0].trim(), lineNumber);
+            int level = levelOf(code);
+            if (level < PROVINCE || level > TOWNSHIP) {
+                throw new IllegalArgumentException("行政区划数据第" + lineNumber + "行代码无法识别层级（只收录省至乡镇级）: " + code);
+            }
+            Double longitude = columns.length > 3 ? parseCoordinate(columns[2]) : null;
+            Double latitude = columns.length > 3 ? parseCoordinate(columns[3]) : null;
+            Division division = new Division(code, columns[1].trim(), level, longitude, latitude);
+
+            BuilderNode node = root;
+            for (int l = PROVINCE; l <= level; l++) {
+                node = node.child(segment(code, l));
+            }
+            if (node.division == null) {
+                divisions.add(division);
+            } else {
+                divisions.set(divisions.indexOf(node.division), division);
+            }
+            node.division = division;
+        }
+        return new AdminDivisionIndex(root.freeze(), version, divisions);
+    }
+
+    /**
+     * 数据版本
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * 行政区划数量
+     */
+    public int size() {
+        return divisions.size();
+    }
+
+    /**
+     * 全部行政区划（按加载顺序）
+     */
+    public List<Division> getDivisions() {
+        return divisions;
+    }
+
+    /**
+     * 沿地理码逐层查找各级行政区划
+     *
+     * @param geoCode 12位地理码
+     * @return 长度为5的数组，下标1-4分别为省、市、县区、乡镇；未收录或该层代码为0时对应元素为null
+     */
+    public Division[] resolve(CharSequence geoCode) {
+        Division[] path = new Division[TOWNSHIP + 1];
+        if (geoCode == null || geoCode.length() != 12) {
+            return path;
+        }
+        Node node = root;
+        for (int level = PROVINCE; level <= TOWNSHIP && node != null; level++) {
+            int key = segment(geoCode, level);
+            if (key <= 0) {
+                break;
+            }
+            node = node.child(key);
+            if (node != null) {
+                path[level] = node.division;
+            }
+        }
+        return path;
+    }
+
+    /**
+     * 查找地理码对应的最深一级已收录行政区划
+     *
+     * @return 行政区划，未收录时返回null
+     */
+    public Division deepest(CharSequence geoCode) {
+        Division[] path = resolve(geoCode);
+        for (int level = TOWNSHIP; level >= PROVINCE; level--) {
+            if (path[level] != null) {
+                return path[level];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 查找地理码对应的最深一级带中心点坐标的已收录行政区划
+     *
+     * @return 行政区划，均无中心点时返回null
+     */
+    public Division deepestWithCenter(CharSequence geoCode) {
+        Division[] path = resolve(geoCode);
+        for (int level = TOWNSHIP; level >= PROVINCE; level--) {
+            if (path[level] != null && path[level].hasCenter()) {
+                return path[level];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 12位代码的层级：省1、市2、县区3、乡镇4，村级返回5，无法识别返回0
+     */
+    static int levelOf(CharSequence code) {
+        if (segment(code, PROVINCE) <= 0) {
+            return 0;
+        }
+        for (int level = CITY; level <= TOWNSHIP; level++) {
+            if (isZero(code, LEVEL_END[level - 1], 12)) {
+                return level - 1;
+            }
+        }
+        return isZero(code, LEVEL_END[TOWNSHIP], 12) ? TOWNSHIP : TOWNSHIP + 1;
+    }
+
+    /**
+     * 12位代码中某一层级的数值，含非数字字符时返回-1
+     */
+    private static int segment(CharSequence code, int level) {
+        int value = 0;
+        for (int i = LEVEL_END[level - 1]; i < LEVEL_END[level]; i++) {
+            int d = code.charAt(i) - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+    private static boolean isZero(CharSequence code, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (code.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String padCode(String code, int lineNumber) {
+        if (code.length() != 6 && code.length() != 9 && code.length() != 12) {
+            throw new IllegalArgumentException("行政区划数据第" + lineNumber + "行代码位数错误: " + code);
+        }
+        StringBuilder sb = new StringBuilder(12).append(code);
+        while (sb.length() < 12) {
+            sb.append('0');
+        }
+        return sb.toString();
+    }
+
+    private static Double parseCoordinate(String value) {
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : Double.valueOf(trimmed);
+    }
+
+    /**
+     * 行政区划
+     */
+    public static final class Division {
+        private final String code;
+        private final String name;
+        private final int level;
+        private final Double longitude;
+        private final Double latitude;
+
+        Division(String code, String name, int level, Double longitude, Double latitude) {
+            this.code = code;
+            this.name = name;
+            this.level = level;
+            this.longitude = longitude;
+            this.latitude = latitude;
+        }
+
+        /**
+         * 12位行政区划代码
+         */
+        public String getCode() {
+            return code;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * 层级：1省、2市、3县区、4乡镇
+         */
+        public int getLevel() {
+            return level;
+        }
+
+        /**
+         * 中心点经度，未提供时为null
+         */
+        public Double getLongitude() {
+            return longitude;
+        }
+
+        /**
+         * 中心点纬度，未提供时为null
+         */
+        public Double getLatitude() {
+            return latitude;
+        }
+
+        public boolean hasCenter() {
+            return longitude != null && latitude != null;
+        }
+    }
+
+    /**
+     * 查询用节点：子节点按键有序存放
+     */
+    private static final class Node {
+        private Division division;
+        private int[] keys = new int[0];
+        private Node[] children = new Node[0];
+
+        Node child(int key) {
+            int low = 0;
+            int high = keys.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int k = keys[middle];
+                if (k < key) {
+                    low = middle + 1;
+                } else if (k > key) {
+                    high = middle - 1;
+                } else {
+                    return children[middle];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 加载用节点
+     */
+    private static final class BuilderNode {
+        private Division division;
+        private final TreeMap<Integer, BuilderNode> children = new TreeMap<>();
+
+        BuilderNode child(int key) {
+            return children.computeIfAbsent(key, k -> new BuilderNode());
+        }
+
+        Node freeze() {
+            Node node = new Node();
+            node.division = division;
+            node.keys = new int[children.size()];
+            node.children = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Integer, BuilderNode> entry : children.entrySet()) {
+                node.keys[i] = entry.getKey();
+                node.children[i] = entry.getValue().freeze();
+                i++;
+            }
+            return node;
+        }
+    }
+}
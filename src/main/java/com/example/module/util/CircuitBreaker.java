@@ -0,0 +1,160 @@
+package com.example.module.util;
+
+/**
+ * 计数窗口熔断器
+ * 关闭状态下记录最近 windowSize 次调用的结果，调用数达到 minimumCalls 且失败率不低于阈值时打开；
+ * 打开状态拒绝所有调用，持续 openDurationMillis 后进入半开状态，放行 halfOpenCalls 次试探调用，
+ * 全部成功则关闭，任意一次失败则重新打开。
+ *
+ * 每次状态切换都会开始新的一代，上一代放行的调用晚到的结果不再计入，避免干扰试探判断。
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * {@link #tryAcquire()} 拒绝调用时的返回值
+     */
+    public static final long REJECTED = -1;
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+
+    // 最近调用结果的环形缓冲区（true 表示失败）
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+    private long openCount;
+
+    /**
+     * @param windowSize           统计窗口的调用次数
+     * @param minimumCalls         计算失败率所需的最少调用次数
+     * @param failureRateThreshold 打开熔断的失败率（0-1）
+     * @param openDurationMillis   打开状态持续时间（毫秒）
+     * @param halfOpenCalls        半开状态放行的试探调用次数
+     */
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                          long openDurationMillis, int halfOpenCalls) {
+        if (windowSize <= 0 || minimumCalls <= 0 || halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("熔断器窗口大小、最少调用次数和试探次数必须大于0");
+        }
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationMillis * 1_000_000L;
+        this.halfOpenCalls = halfOpenCalls;
+        this.window = new boolean[windowSize];
+    }
+
+    /**
+     * 申请一次调用
+     *
+     * @return 放行时返回本次调用所属的代，调用结束后传给 {@link #onSuccess(long)} / {@link #onFailure(long)}；
+     *         拒绝时返回 {@link #REJECTED}
+     */
+    public synchronized long tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                return REJECTED;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= halfOpenCalls) {
+                return REJECTED;
+            }
+            halfOpenPermits++;
+        }
+        return generation;
+    }
+
+    public synchronized void onSuccess(long permit) {
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure(long permit) {
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= minimumCalls && (double) windowFailures / windowCount >= failureRateThreshold) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * 当前状态（打开时间已到但尚无调用触发切换时仍返回 OPEN）
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 统计窗口内的失败率（0-1），窗口为空时为0
+     */
+    public synchronized double getFailureRate() {
+        return windowCount == 0 ? 0.0 : (double) windowFailures / windowCount;
+    }
+
+    /**
+     * 熔断器累计打开次数
+     */
+    public synchronized long getOpenCount() {
+        return openCount;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == windowSize) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % windowSize;
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        generation++;
+        halfOpenPermits = 0;
+        halfOpenSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAt = System.nanoTime();
+            openCount++;
+        } else if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+}
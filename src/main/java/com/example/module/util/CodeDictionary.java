@@ -0,0 +1,232 @@
+package com.example.module.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 灾情编码字典（不可变）
+ * 按编码的数字值直接寻址的数组表，查询时不做哈希、不使用字符串键：
+ * - 灾害大类：1位，下标 = 大类代码
+ * - 灾害子类：2位，下标 = 大类代码 * 100 + 子类代码
+ * - 灾情指标：3位，下标 = 大类代码 * 1000 + 指标代码
+ * - 来源大类：1位；来源子类：2位；载体：1位
+ *
+ * 实例创建后不再修改，可由 {@link DisasterCodeConstants} 作为一个整体原子替换；
+ * 需要修改时通过 {@link #toBuilder()} 复制出新实例（写时复制），并以 version 区分版本。
+ * 解码描述中与时间无关的部分按编码组合缓存在实例内，字典替换后随旧实例一起失效。
+ */
+public final class CodeDictionary {
+
+    /**
+     * 未匹配到编码时返回的名称
+     */
+    public static final String UNKNOWN = "未知";
+
+    /**
+     * 缓存的描述前缀数量上限，超出后不再缓存新的组合
+     */
+    private static final int MAX_CACHED_DESCRIPTIONS = 4096;
+
+    private final long version;
+    private final String[] categories;
+    private final String[] subcategories;
+    private final String[] indicators;
+    private final String[] sourceCategories;
+    private final String[] sourceSubcategories;
+    private final String[] carriers;
+    private final ConcurrentHashMap<Integer, String> descriptionPrefixes = new ConcurrentHashMap<>();
+
+    private CodeDictionary(Builder builder) {
+        this.version = builder.version;
+        this.categories = builder.categories.clone();
+        this.subcategories = builder.subcategories.clone();
+        this.indicators = builder.indicators.clone();
+        this.sourceCategories = builder.sourceCategories.clone();
+        this.sourceSubcategories = builder.sourceSubcategories.clone();
+        this.carriers = builder.carriers.clone();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 以当前字典内容为基础创建构建器，修改不会影响当前实例
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.version = version;
+        System.arraycopy(categories, 0, builder.categories, 0, categories.length);
+        System.arraycopy(subcategories, 0, builder.subcategories, 0, subcategories.length);
+        System.arraycopy(indicators, 0, builder.indicators, 0, indicators.length);
+        System.arraycopy(sourceCategories, 0, builder.sourceCategories, 0, sourceCategories.length);
+        System.arraycopy(sourceSubcategories, 0, builder.sourceSubcategories, 0, sourceSubcategories.length);
+        System.arraycopy(carriers, 0, builder.carriers, 0, carriers.length);
+        return builder;
+    }
+
+    /**
+     * 字典版本号，内置字典为0
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 灾害大类名称
+     */
+    public String categoryName(int category) {
+        return lookup(categories, category, 10);
+    }
+
+    /**
+     * 灾害子类名称
+     */
+    public String subcategoryName(int category, int subcategory) {
+        if (category < 0 || category > 9 || subcategory < 0 || subcategory > 99) {
+            return UNKNOWN;
+        }
+        return orUnknown(subcategories[category * 100 + subcategory]);
+    }
+
+    /**
+     * 灾情指标名称
+     */
+    public String indicatorName(int category, int indicator) {
+        if (category < 0 || category > 9 || indicator < 0 || indicator > 999) {
+            return UNKNOWN;
+        }
+        return orUnknown(indicators[category * 1000 + indicator]);
+    }
+
+    /**
+     * 来源大类名称
+     */
+    public String sourceCategoryName(int sourceCategory) {
+        return lookup(sourceCategories, sourceCategory, 10);
+    }
+
+    /**
+     * 来源子类名称
+     */
+    public String sourceSubcategoryName(int sourceSubcategory) {
+        return lookup(sourceSubcategories, sourceSubcategory, 100);
+    }
+
+    /**
+     * 载体名称
+     */
+    public String carrierName(int carrier) {
+        return lookup(carriers, carrier, 10);
+    }
+
+    /**
+     * 解码描述中时间之前的部分，格式为 "大类 - 子类 - 指标 | 来源: 来源子类 | 载体: 载体 | 时间: "
+     * 同一编码组合只拼接一次
+     *
+     * @param disasterCode      灾情码（6位）
+     * @param sourceSubcategory 来源子类代码
+     * @param carrier           载体代码
+     */
+    public String descriptionPrefix(int disasterCode, int sourceSubcategory, int carrier) {
+        Integer key = (disasterCode * 100 + sourceSubcategory) * 10 + carrier;
+        String prefix = descriptionPrefixes.get(key);
+        if (prefix == null) {
+            prefix = buildDescriptionPrefix(disasterCode, sourceSubcategory, carrier);
+            if (descriptionPrefixes.size() < MAX_CACHED_DESCRIPTIONS) {
+                descriptionPrefixes.putIfAbsent(key, prefix);
+            }
+        }
+        return prefix;
+    }
+
+    private String buildDescriptionPrefix(int disasterCode, int sourceSubcategory, int carrier) {
+        int category = disasterCode / 100000;
+        String subcategoryName = subcategoryName(category, disasterCode / 1000 % 100);
+        String indicatorName = indicatorName(category, disasterCode % 1000);
+        StringBuilder sb = new StringBuilder();
+        sb.append(categoryName(category));
+        if (!subcategoryName.equals(UNKNOWN)) {
+            sb.append(" - ").append(subcategoryName);
+        }
+        if (!indicatorName.equals(UNKNOWN)) {
+            sb.append(" - ").append(indicatorName);
+        }
+        sb.append(" | 来源: ").append(sourceSubcategoryName(sourceSubcategory));
+        sb.append(" | 载体: ").append(carrierName(carrier));
+        sb.append(" | 时间: ");
+        return sb.toString();
+    }
+
+    private static String lookup(String[] table, int code, int size) {
+        if (code < 0 || code >= size) {
+            return UNKNOWN;
+        }
+        return orUnknown(table[code]);
+    }
+
+    private static String orUnknown(String name) {
+        return name != null ? name : UNKNOWN;
+    }
+
+    /**
+     * 字典构建器
+     */
+    public static final class Builder {
+        private long version;
+        private final String[] categories = new String[10];
+        private final String[] subcategories = new String[10 * 100];
+        private final String[] indicators = new String[10 * 1000];
+        private final String[] sourceCategories = new String[10];
+        private final String[] sourceSubcategories = new String[100];
+        private final String[] carriers = new String[10];
+
+        private Builder() {
+        }
+
+        public Builder version(long version) {
+            this.version = version;
+            return this;
+        }
+
+        public Builder category(int category, String name) {
+            categories[check(category, 10)] = name;
+            return this;
+        }
+
+        public Builder subcategory(int category, int subcategory, String name) {
+            subcategories[check(category, 10) * 100 + check(subcategory, 100)] = name;
+            return this;
+        }
+
+        public Builder indicator(int category, int indicator, String name) {
+            indicators[check(category, 10) * 1000 + check(indicator, 1000)] = name;
+            return this;
+        }
+
+        public Builder sourceCategory(int sourceCategory, String name) {
+            sourceCategories[check(sourceCategory, 10)] = name;
+            return this;
+        }
+
+        public Builder sourceSubcategory(int sourceSubcategory, String name) {
+            sourceSubcategories[check(sourceSubcategory, 100)] = name;
+            return this;
+        }
+
+        public Builder carrier(int carrier, String name) {
+            carriers[check(carrier, 10)] = name;
+            return this;
+        }
+
+        public CodeDictionary build() {
+            return new CodeDictionary(this);
+        }
+
+        private static int check(int code, int size) {
+            if (code < 0 || code >= size) {
+                throw new IllegalArgumentException("编码超出范围: " + code);
+            }
+            return code;
+        }
+    }
+}
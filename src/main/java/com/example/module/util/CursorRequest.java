@@ -0,0 +1,34 @@
+package com.example.module.util;
+
+/**
+ * 游标分页请求参数
+ */
+public class CursorRequest {
+
+    private final String cursor;
+    private final Integer size;
+    private final boolean count;
+
+    /**
+     * @param cursor 上一页返回的 nextCursor，为空时从第一条开始
+     * @param size   每页条数，为空时使用默认值，超过上限时按上限处理
+     * @param count  是否同时统计符合条件的总数
+     */
+    public CursorRequest(String cursor, Integer size, boolean count) {
+        this.cursor = cursor;
+        this.size = size;
+        this.count = count;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public boolean isCount() {
+        return count;
+    }
+}
@@ -99,5 +99,135 @@ public class DecodedId implements Serializable {
      * 完整描述
      */
     private String description;
-}
 
+    /**
+     * 返回只读副本，调用任何 setter 都会抛出 UnsupportedOperationException
+     * 用于在多个调用方之间共享同一个解码结果（如解码缓存）
+     */
+    public DecodedId toReadOnly() {
+        return this instanceof ReadOnly ? this : new ReadOnly(this);
+    }
+
+    /**
+     * 只读的解码结果
+     */
+    private static final class ReadOnly extends DecodedId {
+
+        private static final long serialVersionUID = 1L;
+
+        ReadOnly(DecodedId source) {
+            super.setOriginalId(source.getOriginalId());
+            super.setGeoCode(source.getGeoCode());
+            super.setTimeCode(source.getTimeCode());
+            super.setDateTime(source.getDateTime());
+            super.setSourceCategoryCode(source.getSourceCategoryCode());
+            super.setSourceSubcategoryCode(source.getSourceSubcategoryCode());
+            super.setSourceCategoryName(source.getSourceCategoryName());
+            super.setSourceSubcategoryName(source.getSourceSubcategoryName());
+            super.setCarrierCode(source.getCarrierCode());
+            super.setCarrierName(source.getCarrierName());
+            super.setDisasterCode(source.getDisasterCode());
+            super.setDisasterCategoryCode(source.getDisasterCategoryCode());
+            super.setDisasterSubcategoryCode(source.getDisasterSubcategoryCode());
+            super.setDisasterIndicatorCode(source.getDisasterIndicatorCode());
+            super.setDisasterCategoryName(source.getDisasterCategoryName());
+            super.setDisasterSubcategoryName(source.getDisasterSubcategoryName());
+            super.setDisasterIndicatorName(source.getDisasterIndicatorName());
+            super.setDescription(source.getDescription());
+        }
+
+        @Override
+        public void setOriginalId(String originalId) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setGeoCode(String geoCode) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setTimeCode(String timeCode) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setDateTime(LocalDateTime dateTime) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setSourceCategoryCode(String sourceCategoryCode) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setSourceSubcategoryCode(String sourceSubcategoryCode) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setSourceCategoryName(String sourceCategoryName) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setSourceSubcategoryName(String sourceSubcategoryName) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setCarrierCode(String carrierCode) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setCarrierName(String carrierName) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setDisasterCode(String disasterCode) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setDisasterCategoryCode(String disasterCategoryCode) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setDisasterSubcategoryCode(String disasterSubcategoryCode) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setDisasterIndicatorCode(String disasterIndicatorCode) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setDisasterCategoryName(String disasterCategoryName) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setDisasterSubcategoryName(String disasterSubcategoryName) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setDisasterIndicatorName(String disasterIndicatorName) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setDescription(String description) {
+            throw readOnly();
+        }
+
+        private static UnsupportedOperationException readOnly() {
+            return new UnsupportedOperationException("解码结果为只读对象");
+        }
+    }
+}
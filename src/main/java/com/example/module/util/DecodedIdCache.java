@@ -0,0 +1,278 @@
+package com.example.module.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 解码结果缓存
+ * 以 {@link PackedDisasterId}（两个 long）作为键缓存只读的 {@link DecodedId}，
+ * 同一ID重复解码（详情页查看、同一报文重复入库、重复上传Excel等）时直接返回缓存结果。
+ *
+ * 缓存按键的哈希分段，每段是一个按访问顺序排列的 LinkedHashMap（LRU），段内加锁，
+ * 总容量为 maximumSize。缓存项记录生成时的字典版本，编码字典重新加载后旧结果视为未命中。
+ */
+public class DecodedIdCache {
+
+    private final Segment[] segments;
+    private final int maximumSize;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * @param maximumSize 最大缓存条数，小于等于0时不缓存
+     * @param concurrency 分段数（向上取整为2的幂）
+     */
+    public DecodedIdCache(int maximumSize, int concurrency) {
+        this.maximumSize = Math.max(maximumSize, 0);
+        if (this.maximumSize == 0) {
+            this.segments = null;
+            return;
+        }
+
+        int segmentCount = 1;
+        while (segmentCount < concurrency && segmentCount < this.maximumSize) {
+            segmentCount <<= 1;
+        }
+        this.segments = new Segment[segmentCount];
+        int base = this.maximumSize / segmentCount;
+        int remainder = this.maximumSize % segmentCount;
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(base + (i < remainder ? 1 : 0));
+        }
+    }
+
+    /**
+     * 不缓存，每次都重新解码
+     */
+    public static DecodedIdCache disabled() {
+        return new DecodedIdCache(0, 1);
+    }
+
+    public boolean isEnabled() {
+        return segments != null;
+    }
+
+    /**
+     * 解码ID，优先返回缓存结果
+     * 启用缓存时返回只读对象，异常信息与 {@link FastDisasterIdDecoder#decode(String)} 一致
+     *
+     * @param id 36位ID
+     * @throws IllegalArgumentException 如果ID格式不正确
+     */
+    public DecodedId decode(String id) {
+        if (segments == null) {
+            return FastDisasterIdDecoder.decode(id);
+        }
+
+        PackedDisasterId key;
+        try {
+            key = PackedDisasterId.pack(id);
+        } catch (IllegalArgumentException e) {
+            // 格式错误的ID不缓存，由解码器抛出统一的异常信息
+            return FastDisasterIdDecoder.decode(id);
+        }
+
+        long version = DisasterCodeConstants.getDictionary().getVersion();
+        Segment segment = segmentFor(key);
+        DecodedId cached = segment.get(key, version);
+        if (cached != null) {
+            hitCount.increment();
+            return cached;
+        }
+
+        missCount.increment();
+        DecodedId decoded = FastDisasterIdDecoder.decode(id).toReadOnly();
+        segment.store(key, new CacheEntry(decoded, version));
+        return decoded;
+    }
+
+    /**
+     * 查询缓存，不触发解码，也不计入命中统计
+     *
+     * @return 缓存的解码结果，不存在或已过期时返回null
+     */
+    public DecodedId getIfPresent(PackedDisasterId key) {
+        if (segments == null || key == null) {
+            return null;
+        }
+        return segmentFor(key).peek(key, DisasterCodeConstants.getDictionary().getVersion());
+    }
+
+    /**
+     * 清空缓存（统计数据保留）
+     */
+    public void clear() {
+        if (segments != null) {
+            for (Segment segment : segments) {
+                segment.clearAll();
+            }
+        }
+    }
+
+    /**
+     * 当前缓存条数
+     */
+    public long size() {
+        long size = 0;
+        if (segments != null) {
+            for (Segment segment : segments) {
+                size += segment.currentSize();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 缓存统计
+     */
+    public Stats stats() {
+        Stats stats = new Stats();
+        stats.setEnabled(isEnabled());
+        stats.setMaximumSize(maximumSize);
+        stats.setSize(size());
+        stats.setHitCount(hitCount.sum());
+        stats.setMissCount(missCount.sum());
+        stats.setEvictionCount(evictionCount.sum());
+        return stats;
+    }
+
+    private Segment segmentFor(PackedDisasterId key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return segments[h & (segments.length - 1)];
+    }
+
+    private static final class CacheEntry {
+        private final DecodedId value;
+        private final long version;
+
+        CacheEntry(DecodedId value, long version) {
+            this.value = value;
+            this.version = version;
+        }
+    }
+
+    /**
+     * 一个分段：按访问顺序排列的有界 LinkedHashMap
+     */
+    private final class Segment extends LinkedHashMap<PackedDisasterId, CacheEntry> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        synchronized DecodedId get(PackedDisasterId key, long version) {
+            CacheEntry entry = super.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.version != version) {
+                super.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+
+        synchronized DecodedId peek(PackedDisasterId key, long version) {
+            CacheEntry entry = super.get(key);
+            return entry != null && entry.version == version ? entry.value : null;
+        }
+
+        synchronized void store(PackedDisasterId key, CacheEntry entry) {
+            super.put(key, entry);
+        }
+
+        synchronized void clearAll() {
+            super.clear();
+        }
+
+        synchronized int currentSize() {
+            return super.size();
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<PackedDisasterId, CacheEntry> eldest) {
+            if (size() > capacity) {
+                evictionCount.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 缓存统计信息
+     */
+    public static class Stats {
+        private Boolean enabled;
+        private Integer maximumSize;
+        private Long size;
+        private Long hitCount;
+        private Long missCount;
+        private Long evictionCount;
+
+        public Boolean getEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Integer getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(Integer maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Long getSize() {
+            return size;
+        }
+
+        public void setSize(Long size) {
+            this.size = size;
+        }
+
+        public Long getHitCount() {
+            return hitCount;
+        }
+
+        public void setHitCount(Long hitCount) {
+            this.hitCount = hitCount;
+        }
+
+        public Long getMissCount() {
+            return missCount;
+        }
+
+        public void setMissCount(Long missCount) {
+            this.missCount = missCount;
+        }
+
+        public Long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public void setEvictionCount(Long evictionCount) {
+            this.evictionCount = evictionCount;
+        }
+
+        /**
+         * 命中率（0-1），尚无请求时为0
+         */
+        public Double getHitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 0.0 : (double) hitCount / requests;
+        }
+    }
+}
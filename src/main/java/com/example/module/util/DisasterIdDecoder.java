@@ -1,8 +1,6 @@
 package com.example.module.util;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
 /**
  * 灾情ID解码器
@@ -108,12 +106,7 @@ public class DisasterIdDecoder {
      * 格式：YYYYMMDDHHMMSS
      */
     private static LocalDateTime parseDateTime(String timeCode) {
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
-            return LocalDateTime.parse(timeCode, formatter);
-        } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException("时间码格式错误: " + timeCode, e);
-        }
+        return TimeCodeParser.parse(timeCode);
     }
 
     /**
@@ -144,13 +137,7 @@ public class DisasterIdDecoder {
         if (!id.matches("\\d+")) {
             return false;
         }
-        try {
-            String timeCode = id.substring(GEO_CODE_LENGTH, GEO_CODE_LENGTH + TIME_CODE_LENGTH);
-            parseDateTime(timeCode);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return TimeCodeParser.toEpochSecond(id, GEO_CODE_LENGTH) != TimeCodeParser.INVALID;
     }
 }
 
@@ -0,0 +1,147 @@
+package com.example.module.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 36位ID扫描器
+ * 从文件名、报文正文等文本中找出所有36位数字ID，用于替代正则 \d{36}：
+ * 逐字符统计连续数字的长度，一次遍历、不回溯、不创建 Matcher。
+ *
+ * 匹配规则与 Pattern.compile("\\d{36}") 依次 find() 的结果一致：
+ * 连续数字串的前36位为一个ID，超过36位时从第37位开始重新计数。
+ */
+public final class DisasterIdScanner {
+
+    /**
+     * ID长度
+     */
+    public static final int ID_LENGTH = 36;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private DisasterIdScanner() {
+    }
+
+    /**
+     * 扫描回调
+     */
+    @FunctionalInterface
+    public interface IdConsumer {
+        /**
+         * 处理找到的ID
+         *
+         * @param id     36位ID
+         * @param offset ID在文本中的起始位置（字符偏移）
+         * @return 是否继续扫描
+         */
+        boolean accept(String id, long offset);
+    }
+
+    /**
+     * 查找下一个ID的起始位置
+     *
+     * @param text 文本
+     * @param from 开始查找的位置
+     * @return ID起始位置，未找到返回-1
+     */
+    public static int indexOf(CharSequence text, int from) {
+        if (text == null) {
+            return -1;
+        }
+        int run = 0;
+        for (int i = Math.max(from, 0), length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++run == ID_LENGTH) {
+                    return i - (ID_LENGTH - 1);
+                }
+            } else {
+                run = 0;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 查找第一个ID
+     *
+     * @param text 文本
+     * @return 36位ID，未找到返回null
+     */
+    public static String findFirst(CharSequence text) {
+        int start = indexOf(text, 0);
+        return start < 0 ? null : text.subSequence(start, start + ID_LENGTH).toString();
+    }
+
+    /**
+     * 查找所有ID
+     *
+     * @param text 文本
+     * @return ID列表（按出现顺序）
+     */
+    public static List<String> findAll(CharSequence text) {
+        List<String> ids = new ArrayList<>();
+        scan(text, (id, offset) -> ids.add(id));
+        return ids;
+    }
+
+    /**
+     * 扫描文本中的所有ID
+     *
+     * @param text     文本
+     * @param consumer 回调，返回false时停止扫描
+     * @return 回调处理的ID数量
+     */
+    public static long scan(CharSequence text, IdConsumer consumer) {
+        long count = 0;
+        int start = indexOf(text, 0);
+        while (start >= 0) {
+            count++;
+            if (!consumer.accept(text.subSequence(start, start + ID_LENGTH).toString(), start)) {
+                break;
+            }
+            start = indexOf(text, start + ID_LENGTH);
+        }
+        return count;
+    }
+
+    /**
+     * 流式扫描字符流中的所有ID
+     * 只缓存当前连续数字串（最多36个字符），内存占用与输入大小无关；ID可以跨越读取缓冲区边界
+     *
+     * @param reader   字符流（不会被关闭）
+     * @param consumer 回调，返回false时停止扫描
+     * @return 回调处理的ID数量
+     * @throws IOException 读取失败
+     */
+    public static long scan(Reader reader, IdConsumer consumer) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        char[] pending = new char[ID_LENGTH];
+        int run = 0;
+        long position = 0;
+        long count = 0;
+
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++, position++) {
+                char c = buffer[i];
+                if (c >= '0' && c <= '9') {
+                    pending[run++] = c;
+                    if (run == ID_LENGTH) {
+                        run = 0;
+                        count++;
+                        if (!consumer.accept(new String(pending), position - (ID_LENGTH - 1))) {
+                            return count;
+                        }
+                    }
+                } else {
+                    run = 0;
+                }
+            }
+        }
+        return count;
+    }
+}
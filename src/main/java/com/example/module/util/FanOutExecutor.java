@@ -0,0 +1,107 @@
+package com.example.module.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 带截止时间的并发调用执行器
+ * 将一组相互独立的阻塞调用（如远程查询）提交到有界线程池，在截止时间内收集结果，
+ * 整体耗时取决于最慢的单个调用而不是所有调用之和。
+ *
+ * 每次 invokeAll 最多同时占用 maxInFlight 个任务，其余调用等前面的完成后再提交（分波执行），
+ * 大批量调用不会一次塞满线程池队列而被拒绝，也不会挤掉其他调用方；线程池已被其他调用方占满时，
+ * 在调用线程中直接执行（背压）。
+ *
+ * 失败、超时或截止时间前未能开始的调用对应结果为null，调用方按"该项无结果"处理即可。
+ */
+public class FanOutExecutor {
+
+    private final ExecutorService pool;
+    private final int maxInFlight;
+
+    /**
+     * @param pool        执行调用的线程池，应使用有界队列
+     * @param maxInFlight 单次 invokeAll 同时提交的最大任务数，一般取线程池线程数
+     */
+    public FanOutExecutor(ExecutorService pool, int maxInFlight) {
+        this.pool = pool;
+        this.maxInFlight = Math.max(1, maxInFlight);
+    }
+
+    /**
+     * 并发执行全部调用
+     *
+     * @param calls         调用列表
+     * @param deadlineNanos 截止时间（System.nanoTime() 时间基准）
+     * @return 与输入一一对应的结果，未能按时成功完成的为null
+     */
+    public <T> List<T> invokeAll(List<? extends Callable<T>> calls, long deadlineNanos) {
+        List<T> results = new ArrayList<>(Collections.nCopies(calls.size(), (T) null));
+        List<Future<T>> futures = new ArrayList<>(Collections.nCopies(calls.size(), (Future<T>) null));
+        Deque<Integer> inFlight = new ArrayDeque<>();
+        int next = 0;
+        while (next < calls.size() && System.nanoTime() < deadlineNanos) {
+            if (inFlight.size() >= maxInFlight) {
+                collect(inFlight.poll(), futures, results, deadlineNanos);
+                continue;
+            }
+            try {
+                futures.set(next, pool.submit(calls.get(next)));
+                inFlight.add(next);
+                next++;
+            } catch (RejectedExecutionException e) {
+                if (!inFlight.isEmpty()) {
+                    // 等自己的一个任务完成后重试
+                    collect(inFlight.poll(), futures, results, deadlineNanos);
+                } else {
+                    results.set(next, callQuietly(calls.get(next)));
+                    next++;
+                }
+            }
+        }
+        while (!inFlight.isEmpty()) {
+            collect(inFlight.poll(), futures, results, deadlineNanos);
+        }
+        return results;
+    }
+
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static <T> void collect(int index, List<Future<T>> futures, List<T> results, long deadlineNanos) {
+        results.set(index, await(futures.get(index), deadlineNanos));
+    }
+
+    private static <T> T callQuietly(Callable<T> call) {
+        try {
+            return call.call();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static <T> T await(Future<T> future, long deadlineNanos) {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return null;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.module.util;
+
+import java.time.LocalDateTime;
+
+/**
+ * 灾情ID快速解码器
+ * 与 {@link DisasterIdDecoder} 解析同样的36位一体化编码ID，但只对字符做一次遍历：
+ * 校验数字与提取各字段同时完成，时间码由 {@link TimeCodeParser} 以整数运算校验，各编码以基本类型返回，
+ * 解析过程不创建任何中间对象。只有调用 {@link Fields#toDecodedId()} 时才生成 {@link DecodedId}，
+ * 且名称与描述在读取时才计算（见 {@link LazyDecodedId}）。
+ * 时间码的校验规则与 DateTimeFormatter.ofPattern("yyyyMMddHHmmss") 的默认（SMART）解析一致，详见 {@link TimeCodeParser}。
+ */
+public class FastDisasterIdDecoder {
+
+    /**
+     * 解析成功
+     */
+    public static final int OK = 0;
+
+    /**
+     * 长度不是36位
+     */
+    public static final int INVALID_LENGTH = 1;
+
+    /**
+     * 包含非数字字符
+     */
+    public static final int INVALID_CHAR = 2;
+
+    /**
+     * 时间码不合法
+     */
+    public static final int INVALID_TIME = 3;
+
+    private static final int TOTAL_LENGTH = 36;
+    private static final int GEO_CODE_LENGTH = 12;
+    private static final int TIME_CODE_LENGTH = 14;
+
+    /**
+     * 解析ID到给定的字段对象中
+     *
+     * @param id  36位一体化编码ID
+     * @param out 输出字段（可复用；为null时只做校验）
+     * @return 解析状态：OK、INVALID_LENGTH、INVALID_CHAR 或 INVALID_TIME
+     */
+    public static int parse(CharSequence id, Fields out) {
+        if (id == null || id.length() != TOTAL_LENGTH) {
+            return INVALID_LENGTH;
+        }
+
+        // 按位置顺序读取各段，每个字符只访问一次
+        int geoHigh = digits(id, 0, 6);
+        int geoLow = digits(id, 6, 12);
+        int year = digits(id, 12, 16);
+        int month = digits(id, 16, 18);
+        int day = digits(id, 18, 20);
+        int hour = digits(id, 20, 22);
+        int minute = digits(id, 22, 24);
+        int second = digits(id, 24, 26);
+        int sourceCategory = digits(id, 26, 27);
+        int sourceSubcategory = digits(id, 27, 29);
+        int carrier = digits(id, 29, 30);
+        int category = digits(id, 30, 31);
+        int subcategory = digits(id, 31, 33);
+        int indicator = digits(id, 33, 36);
+
+        if ((geoHigh | geoLow | year | month | day | hour | minute | second | sourceCategory
+                | sourceSubcategory | carrier | category | subcategory | indicator) < 0) {
+            return INVALID_CHAR;
+        }
+
+        long epochSecond = TimeCodeParser.toEpochSecond(year, month, day, hour, minute, second);
+        if (epochSecond == TimeCodeParser.INVALID) {
+            return INVALID_TIME;
+        }
+
+        if (out == null) {
+            return OK;
+        }
+
+        out.source = id;
+        out.geoCode = geoHigh * 1_000_000L + geoLow;
+        out.epochSecond = epochSecond;
+        out.sourceCategory = sourceCategory;
+        out.sourceSubcategory = sourceSubcategory;
+        out.carrier = carrier;
+        out.disasterCategory = category;
+        out.disasterSubcategory = subcategory;
+        out.disasterIndicator = indicator;
+        return OK;
+    }
+
+    /**
+     * 验证ID格式（不分配对象）
+     */
+    public static boolean isValid(CharSequence id) {
+        return parse(id, null) == OK;
+    }
+
+    /**
+     * 解码36位ID
+     * 结果及异常信息与 {@link DisasterIdDecoder#decode(String)} 保持一致
+     *
+     * @param id 36位一体化编码ID
+     * @return 解码结果对象
+     * @throws IllegalArgumentException 如果ID格式不正确
+     */
+    public static DecodedId decode(String id) {
+        Fields fields = new Fields();
+        int status = parse(id, fields);
+        switch (status) {
+            case OK:
+                return fields.toDecodedId();
+            case INVALID_LENGTH:
+                throw new IllegalArgumentException("ID长度必须为36位，当前长度: " + (id == null ? 0 : id.length()));
+            case INVALID_CHAR:
+                throw new IllegalArgumentException("ID必须只包含数字");
+            default:
+                throw new IllegalArgumentException("ID解析失败: 时间码格式错误: "
+                        + id.substring(GEO_CODE_LENGTH, GEO_CODE_LENGTH + TIME_CODE_LENGTH));
+        }
+    }
+
+    /**
+     * 读取 [from, to) 区间内的十进制数字，遇到非数字字符返回-1
+     */
+    private static int digits(CharSequence s, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int d = s.charAt(i) - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+    /**
+     * 快速解码结果
+     * 各编码均以整数保存，可在批量解析时重复使用同一个实例
+     */
+    public static class Fields {
+        private CharSequence source;
+        private long geoCode;
+        private long epochSecond;
+        private int sourceCategory;
+        private int sourceSubcategory;
+        private int carrier;
+        private int disasterCategory;
+        private int disasterSubcategory;
+        private int disasterIndicator;
+
+        /**
+         * 原始ID
+         */
+        public CharSequence getSource() {
+            return source;
+        }
+
+        /**
+         * 地理码（第1-12位）
+         */
+        public long getGeoCode() {
+            return geoCode;
+        }
+
+        /**
+         * 时间码对应的纪元秒（见 {@link TimeCodeParser}）
+         */
+        public long getEpochSecond() {
+            return epochSecond;
+        }
+
+        /**
+         * 来源码大类（第27位）
+         */
+        public int getSourceCategory() {
+            return sourceCategory;
+        }
+
+        /**
+         * 来源码子类（第28-29位）
+         */
+        public int getSourceSubcategory() {
+            return sourceSubcategory;
+        }
+
+        /**
+         * 载体码（第30位）
+         */
+        public int getCarrier() {
+            return carrier;
+        }
+
+        /**
+         * 灾害大类代码（第31位）
+         */
+        public int getDisasterCategory() {
+            return disasterCategory;
+        }
+
+        /**
+         * 灾害子类代码（第32-33位）
+         */
+        public int getDisasterSubcategory() {
+            return disasterSubcategory;
+        }
+
+        /**
+         * 灾情指标代码（第34-36位）
+         */
+        public int getDisasterIndicator() {
+            return disasterIndicator;
+        }
+
+        /**
+         * 解析后的时间
+         */
+        public LocalDateTime toLocalDateTime() {
+            return TimeCodeParser.toLocalDateTime(epochSecond);
+        }
+
+        /**
+         * 生成与 {@link DisasterIdDecoder#decode(String)} 内容相同的解码结果对象（只读）
+         * 各名称、时间及描述在首次读取时才从解码时的字典快照中计算
+         */
+        public DecodedId toDecodedId() {
+            return new LazyDecodedId(this, DisasterCodeConstants.getDictionary());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.module.util;
+
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 字段投影：只从 MongoDB 读取指定的属性，并只输出这些属性
+ * 由 FieldProjector 解析 view / fields 参数得到；未读取的属性不会以 null 或默认值出现在响应中
+ */
+public class FieldProjection<T> {
+
+    private final MongoPersistentEntity<?> entity;
+    private final List<MongoPersistentProperty> properties;
+
+    FieldProjection(MongoPersistentEntity<?> entity, List<MongoPersistentProperty> properties) {
+        this.entity = entity;
+        this.properties = Collections.unmodifiableList(new ArrayList<>(properties));
+    }
+
+    /**
+     * 在查询上设置投影，只返回投影属性对应的数据库字段
+     *
+     * @param extraFields 额外读取的数据库字段（如游标分页的排序字段），不会出现在输出中
+     */
+    public Query applyTo(Query query, String... extraFields) {
+        for (MongoPersistentProperty property : properties) {
+            query.fields().include(property.getFieldName());
+        }
+        for (String field : extraFields) {
+            query.fields().include(field);
+        }
+        return query;
+    }
+
+    /**
+     * 将按投影读取的实体转换为只含投影属性的 Map（按声明顺序）
+     */
+    public Map<String, Object> toMap(T bean) {
+        PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(bean);
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (MongoPersistentProperty property : properties) {
+            map.put(property.getName(), accessor.getProperty(property));
+        }
+        return map;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.module.util;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 列表接口的字段投影解析
+ * - view：预定义视图（如 summary），full 或不传表示完整文档
+ * - fields：逗号分隔的属性名（稀疏字段集），优先于 view
+ * 属性名与响应 JSON 中的字段名一致；不存在或不对外输出（@JsonIgnore）的属性视为参数错误。
+ * id 总是包含在投影中。
+ */
+public class FieldProjector {
+
+    public static final String FULL_VIEW = "full";
+
+    private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
+    private final Map<Class<?>, Map<String, List<String>>> views = new HashMap<>();
+
+    public FieldProjector(MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
+        this.mappingContext = mappingContext;
+    }
+
+    /**
+     * 注册预定义视图（启动时调用）
+     */
+    public FieldProjector registerView(Class<?> type, String view, String... properties) {
+        resolveProperties(type, Arrays.asList(properties));
+        views.computeIfAbsent(type, t -> new HashMap<>()).put(view.toLowerCase(), Arrays.asList(properties));
+        return this;
+    }
+
+    /**
+     * @return 投影；未指定 fields 且 view 为空或 full 时返回null，表示读取完整文档
+     * @throws IllegalArgumentException 视图不存在或字段不存在
+     */
+    public <T> FieldProjection<T> resolve(Class<T> type, String view, String fields) {
+        if (fields != null && !fields.trim().isEmpty()) {
+            List<String> names = new ArrayList<>();
+            for (String name : fields.split(",")) {
+                if (!name.trim().isEmpty()) {
+                    names.add(name.trim());
+                }
+            }
+            return new FieldProjection<>(mappingContext.getRequiredPersistentEntity(type), resolveProperties(type, names));
+        }
+        if (view == null || view.isEmpty() || FULL_VIEW.equalsIgnoreCase(view)) {
+            return null;
+        }
+        List<String> names = views.getOrDefault(type, Collections.emptyMap()).get(view.toLowerCase());
+        if (names == null) {
+            throw new IllegalArgumentException("不支持的视图: " + view);
+        }
+        return new FieldProjection<>(mappingContext.getRequiredPersistentEntity(type), resolveProperties(type, names));
+    }
+
+    private List<MongoPersistentProperty> resolveProperties(Class<?> type, List<String> names) {
+        MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(type);
+        Set<MongoPersistentProperty> properties = new LinkedHashSet<>();
+        properties.add(entity.getRequiredIdProperty());
+        for (String name : names) {
+            MongoPersistentProperty property = entity.getPersistentProperty(name);
+            if (property == null || property.isAnnotationPresent(JsonIgnore.class)) {
+                throw new IllegalArgumentException("未知字段: " + name);
+            }
+            properties.add(property);
+        }
+        return new ArrayList<>(properties);
+    }
+}
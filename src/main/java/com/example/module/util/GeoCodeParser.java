@@ -15,6 +15,11 @@ import lombok.Data;
  */
 public class GeoCodeParser {
 
+    /**
+     * 各层级前缀长度（由村级向省级）
+     */
+    private static final int[] PREFIX_LENGTHS = {9, 6, 4, 2};
+
     /**
      * 解析12位地理码
      * 
@@ -45,6 +50,38 @@ public class GeoCodeParser {
         return info;
     }
 
+    /**
+     * 将任意层级的行政区划代码规范为前缀
+     * 接受2位（省）、4位（市）、6位（县区）、9位（乡镇）前缀或12位代码；
+     * 12位代码末尾全为0的层级会被去掉，如 510100000000 → 5101、510104001000 → 510104001
+     * 
+     * @param code 行政区划代码
+     * @return 前缀，格式不正确或省级代码为00时返回null
+     */
+    public static String toPrefix(String code) {
+        if (code == null || !code.matches("\\d+") || code.startsWith("00")) {
+            return null;
+        }
+        switch (code.length()) {
+            case 2:
+            case 4:
+            case 6:
+            case 9:
+                return code;
+            case 12:
+                int end = 12;
+                for (int levelEnd : PREFIX_LENGTHS) {
+                    if (!code.substring(levelEnd, end).matches("0+")) {
+                        break;
+                    }
+                    end = levelEnd;
+                }
+                return code.substring(0, end);
+            default:
+                return null;
+        }
+    }
+
     /**
      * 验证地理码格式
      */
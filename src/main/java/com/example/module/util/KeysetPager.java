@@ -0,0 +1,179 @@
+package com.example.module.util;
+
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * MongoDB 键集（游标）分页
+ * 按"排序字段 + _id"排序，游标记录上一页最后一条的排序字段值和 _id，下一页从该位置之后开始查询，
+ * 不使用 skip，翻到任意深度的代价都与第一页相同（排序字段上应有索引）。
+ *
+ * 游标是不透明的字符串（扩展JSON 的 Base64URL 编码，保留日期、长整型、ObjectId 等类型），
+ * 其中还记录了集合、排序字段和方向，用于拒绝在其他查询上使用的游标。
+ * 排序字段为空（或不存在）的文档按 MongoDB 的规则排在最小值位置，同样可以连续翻页。
+ * 排序字段为 _id 时只按 _id 排序，适用于没有可用排序索引的查询（如空间范围查询），顺序稳定且不会重复或遗漏。
+ */
+public class KeysetPager {
+
+    private static final JsonWriterSettings TOKEN_JSON = JsonWriterSettings.builder()
+            .outputMode(JsonMode.EXTENDED)
+            .build();
+
+    private final MongoTemplate mongoTemplate;
+    private final int defaultSize;
+    private final int maxSize;
+
+    /**
+     * @param defaultSize 未指定每页条数时的默认值
+     * @param maxSize     每页最大条数
+     */
+    public KeysetPager(MongoTemplate mongoTemplate, int defaultSize, int maxSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 查询一页
+     *
+     * @param type      实体类型
+     * @param filter    过滤条件（使用数据库字段名），为null时不过滤
+     * @param sortField 排序字段（数据库字段名），为 _id 时只按 _id 排序
+     * @param direction 排序方向，_id 按相同方向排序
+     * @param request   游标、每页条数及是否统计总数
+     * @throws IllegalArgumentException 游标无效或不属于当前查询
+     */
+    public <T> CursorPage<T> find(Class<T> type, Criteria filter, String sortField, Sort.Direction direction,
+                                  CursorRequest request) {
+        return find(type, filter, sortField, direction, request, null,
+                document -> mongoTemplate.getConverter().read(type, document));
+    }
+
+    /**
+     * 按字段投影查询一页，只读取投影字段，每条数据为只含投影属性的 Map
+     *
+     * @param projection 字段投影，为null时与不带投影的查询相同（返回完整实体）
+     */
+    public <T> CursorPage<?> find(Class<T> type, Criteria filter, String sortField, Sort.Direction direction,
+                                  CursorRequest request, FieldProjection<T> projection) {
+        if (projection == null) {
+            return find(type, filter, sortField, direction, request);
+        }
+        return find(type, filter, sortField, direction, request, projection,
+                document -> projection.toMap(mongoTemplate.getConverter().read(type, document)));
+    }
+
+    private <T, R> CursorPage<R> find(Class<T> type, Criteria filter, String sortField, Sort.Direction direction,
+                                      CursorRequest request, FieldProjection<T> projection,
+                                      Function<Document, R> reader) {
+        String collection = mongoTemplate.getCollectionName(type);
+        boolean descending = direction == Sort.Direction.DESC;
+        int size = request.getSize() == null || request.getSize() <= 0
+                ? defaultSize : Math.min(request.getSize(), maxSize);
+        boolean filtered = filter != null && !filter.getCriteriaObject().isEmpty();
+
+        Query query = new Query();
+        Document position = decode(request.getCursor(), collection, sortField, descending);
+        if (position == null) {
+            if (filtered) {
+                query.addCriteria(filter);
+            }
+        } else {
+            Criteria after = after(sortField, descending, position.get("v"), position.get("i"));
+            query.addCriteria(filtered ? new Criteria().andOperator(filter, after) : after);
+        }
+        Sort sort = "_id".equals(sortField) ? Sort.by(direction, "_id") : Sort.by(direction, sortField, "_id");
+        query.with(sort).limit(size + 1);
+        if (projection != null) {
+            // 排序字段用于生成下一页游标，需要一并读取
+            projection.applyTo(query, sortField);
+        }
+
+        List<Document> documents = mongoTemplate.find(query, Document.class, collection);
+        boolean hasMore = documents.size() > size;
+        if (hasMore) {
+            documents = documents.subList(0, size);
+        }
+        List<R> items = new ArrayList<>(documents.size());
+        for (Document document : documents) {
+            items.add(reader.apply(document));
+        }
+
+        CursorPage<R> page = new CursorPage<>();
+        page.setItems(items);
+        page.setSize(size);
+        page.setHasMore(hasMore);
+        if (hasMore) {
+            Document last = documents.get(documents.size() - 1);
+            page.setNextCursor(encode(collection, sortField, descending, last.get(sortField), last.get("_id")));
+        }
+        if (request.isCount()) {
+            page.setTotal(mongoTemplate.count(filtered ? new Query(filter) : new Query(), collection));
+        }
+        return page;
+    }
+
+    /**
+     * 排在 (value, id) 之后的文档：降序时空值排在最后，升序时空值排在最前
+     */
+    private static Criteria after(String sortField, boolean descending, Object value, Object id) {
+        if ("_id".equals(sortField)) {
+            return descending ? Criteria.where("_id").lt(id) : Criteria.where("_id").gt(id);
+        }
+        if (descending) {
+            if (value == null) {
+                return Criteria.where(sortField).is(null).and("_id").lt(id);
+            }
+            return new Criteria().orOperator(
+                    Criteria.where(sortField).lt(value),
+                    Criteria.where(sortField).is(value).and("_id").lt(id),
+                    Criteria.where(sortField).is(null));
+        }
+        if (value == null) {
+            return new Criteria().orOperator(
+                    Criteria.where(sortField).is(null).and("_id").gt(id),
+                    Criteria.where(sortField).ne(null));
+        }
+        return new Criteria().orOperator(
+                Criteria.where(sortField).gt(value),
+                Criteria.where(sortField).is(value).and("_id").gt(id));
+    }
+
+    private static String encode(String collection, String sortField, boolean descending, Object value, Object id) {
+        Document token = new Document("c", collection)
+                .append("f", sortField)
+                .append("d", descending ? -1 : 1)
+                .append("v", value)
+                .append("i", id);
+        byte[] json = token.toJson(TOKEN_JSON).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+    }
+
+    private static Document decode(String cursor, String collection, String sortField, boolean descending) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        Document token;
+        try {
+            token = Document.parse(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("游标格式错误");
+        }
+        if (!collection.equals(token.get("c")) || !sortField.equals(token.get("f"))
+                || !Integer.valueOf(descending ? -1 : 1).equals(token.get("d")) || token.get("i") == null) {
+            throw new IllegalArgumentException("游标与当前查询不匹配");
+        }
+        return token;
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.module.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 固定分桶的耗时直方图（线程安全，记录无锁）
+ * 各桶按上界（毫秒）统计不超过该上界的调用次数，分位数取所在桶的上界，精度与分桶一致。
+ */
+public class LatencyHistogram {
+
+    /**
+     * 分桶上界（毫秒），最后一个桶之外的记入溢出桶
+     */
+    private static final long[] BOUNDS_MILLIS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MILLIS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 记录一次调用
+     *
+     * @param nanos   耗时（纳秒）
+     * @param failure 是否失败
+     */
+    public void record(long nanos, boolean failure) {
+        long millis = nanos / 1_000_000L;
+        int bucket = 0;
+        while (bucket < BOUNDS_MILLIS.length && millis > BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        count.increment();
+        if (failure) {
+            failureCount.increment();
+        }
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+
+        Snapshot snapshot = new Snapshot();
+        snapshot.setCount(total);
+        snapshot.setFailureCount(failureCount.sum());
+        snapshot.setMeanMillis(total == 0 ? 0.0 : totalNanos.sum() / 1e6 / total);
+        snapshot.setMaxMillis(maxNanos.get() / 1e6);
+        snapshot.setP50Millis(percentile(counts, total, 0.50));
+        snapshot.setP95Millis(percentile(counts, total, 0.95));
+        snapshot.setP99Millis(percentile(counts, total, 0.99));
+        Map<String, Long> bucketCounts = new LinkedHashMap<>();
+        for (int i = 0; i < BOUNDS_MILLIS.length; i++) {
+            bucketCounts.put(String.valueOf(BOUNDS_MILLIS[i]), counts[i]);
+        }
+        bucketCounts.put("+Inf", counts[BOUNDS_MILLIS.length]);
+        snapshot.setBuckets(bucketCounts);
+        return snapshot;
+    }
+
+    /**
+     * 分位数所在桶的上界（毫秒），落在溢出桶时取记录到的最大值，尚无记录时为null
+     */
+    private Long percentile(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return null;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long cumulative = 0;
+        for (int i = 0; i < BOUNDS_MILLIS.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return BOUNDS_MILLIS[i];
+            }
+        }
+        return maxNanos.get() / 1_000_000L;
+    }
+
+    /**
+     * 直方图快照
+     */
+    public static class Snapshot {
+        private Long count;
+        private Long failureCount;
+        private Double meanMillis;
+        private Double maxMillis;
+        private Long p50Millis;
+        private Long p95Millis;
+        private Long p99Millis;
+        private Map<String, Long> buckets;
+
+        public Long getCount() {
+            return count;
+        }
+
+        public void setCount(Long count) {
+            this.count = count;
+        }
+
+        public Long getFailureCount() {
+            return failureCount;
+        }
+
+        public void setFailureCount(Long failureCount) {
+            this.failureCount = failureCount;
+        }
+
+        public Double getMeanMillis() {
+            return meanMillis;
+        }
+
+        public void setMeanMillis(Double meanMillis) {
+            this.meanMillis = meanMillis;
+        }
+
+        public Double getMaxMillis() {
+            return maxMillis;
+        }
+
+        public void setMaxMillis(Double maxMillis) {
+            this.maxMillis = maxMillis;
+        }
+
+        public Long getP50Millis() {
+            return p50Millis;
+        }
+
+        public void setP50Millis(Long p50Millis) {
+            this.p50Millis = p50Millis;
+        }
+
+        public Long getP95Millis() {
+            return p95Millis;
+        }
+
+        public void setP95Millis(Long p95Millis) {
+            this.p95Millis = p95Millis;
+        }
+
+        public Long getP99Millis() {
+            return p99Millis;
+        }
+
+        public void setP99Millis(Long p99Millis) {
+            this.p99Millis = p99Millis;
+        }
+
+        /**
+         * 各桶（键为上界毫秒数，"+Inf" 为溢出桶）的调用次数，不累加
+         */
+        public Map<String, Long> getBuckets() {
+            return buckets;
+        }
+
+        public void setBuckets(Map<String, Long> buckets) {
+            this.buckets = buckets;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.module.util;
+
+import java.time.LocalDateTime;
+
+/**
+ * 按需计算的解码结果（只读）
+ * 只保存原始ID、解析出的整数编码以及解码时的字典快照；
+ * 各编码子串、名称、时间和描述在调用对应 getter（包括 Jackson 序列化）时才生成，
+ * 只需要编码的调用方不会为名称查询和描述拼接付出代价。
+ *
+ * 由 {@link FastDisasterIdDecoder.Fields#toDecodedId()} 创建，不对外公开构造方法。
+ */
+final class LazyDecodedId extends DecodedId {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String id;
+    private final transient CodeDictionary dictionary;
+    private final long epochSecond;
+    private final int sourceCategory;
+    private final int sourceSubcategory;
+    private final int carrier;
+    private final int disasterCategory;
+    private final int disasterSubcategory;
+    private final int disasterIndicator;
+
+    // 以下字段首次访问时计算；值均为不可变对象，并发下重复计算不影响结果
+    private LocalDateTime dateTime;
+    private String description;
+
+    LazyDecodedId(FastDisasterIdDecoder.Fields fields, CodeDictionary dictionary) {
+        this.id = fields.getSource().toString();
+        this.dictionary = dictionary;
+        this.epochSecond = fields.getEpochSecond();
+        this.sourceCategory = fields.getSourceCategory();
+        this.sourceSubcategory = fields.getSourceSubcategory();
+        this.carrier = fields.getCarrier();
+        this.disasterCategory = fields.getDisasterCategory();
+        this.disasterSubcategory = fields.getDisasterSubcategory();
+        this.disasterIndicator = fields.getDisasterIndicator();
+    }
+
+    @Override
+    public DecodedId toReadOnly() {
+        return this;
+    }
+
+    @Override
+    public String getOriginalId() {
+        return id;
+    }
+
+    @Override
+    public String getGeoCode() {
+        return id.substring(0, 12);
+    }
+
+    @Override
+    public String getTimeCode() {
+        return id.substring(12, 26);
+    }
+
+    @Override
+    public LocalDateTime getDateTime() {
+        LocalDateTime result = dateTime;
+        if (result == null) {
+            result = TimeCodeParser.toLocalDateTime(epochSecond);
+            dateTime = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String getSourceCategoryCode() {
+        return id.substring(26, 27);
+    }
+
+    @Override
+    public String getSourceSubcategoryCode() {
+        return id.substring(27, 29);
+    }
+
+    @Override
+    public String getSourceCategoryName() {
+        return dictionary.sourceCategoryName(sourceCategory);
+    }
+
+    @Override
+    public String getSourceSubcategoryName() {
+        return dictionary.sourceSubcategoryName(sourceSubcategory);
+    }
+
+    @Override
+    public String getCarrierCode() {
+        return id.substring(29, 30);
+    }
+
+    @Override
+    public String getCarrierName() {
+        return dictionary.carrierName(carrier);
+    }
+
+    @Override
+    public String getDisasterCode() {
+        return id.substring(30);
+    }
+
+    @Override
+    public String getDisasterCategoryCode() {
+        return id.substring(30, 31);
+    }
+
+    @Override
+    public String getDisasterSubcategoryCode() {
+        return id.substring(31, 33);
+    }
+
+    @Override
+    public String getDisasterIndicatorCode() {
+        return id.substring(33, 36);
+    }
+
+    @Override
+    public String getDisasterCategoryName() {
+        return dictionary.categoryName(disasterCategory);
+    }
+
+    @Override
+    public String getDisasterSubcategoryName() {
+        return dictionary.subcategoryName(disasterCategory, disasterSubcategory);
+    }
+
+    @Override
+    public String getDisasterIndicatorName() {
+        return dictionary.indicatorName(disasterCategory, disasterIndicator);
+    }
+
+    @Override
+    public String getDescription() {
+        String result = description;
+        if (result == null) {
+            int disasterCode = disasterCategory * 100000 + disasterSubcategory * 1000 + disasterIndicator;
+            result = dictionary.descriptionPrefix(disasterCode, sourceSubcategory, carrier) + getDateTime();
+            description = result;
+        }
+        return result;
+    }
+
+    @Override
+    public void setOriginalId(String originalId) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setGeoCode(String geoCode) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setTimeCode(String timeCode) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setDateTime(LocalDateTime dateTime) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setSourceCategoryCode(String sourceCategoryCode) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setSourceSubcategoryCode(String sourceSubcategoryCode) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setSourceCategoryName(String sourceCategoryName) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setSourceSubcategoryName(String sourceSubcategoryName) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCarrierCode(String carrierCode) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCarrierName(String carrierName) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setDisasterCode(String disasterCode) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setDisasterCategoryCode(String disasterCategoryCode) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setDisasterSubcategoryCode(String disasterSubcategoryCode) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setDisasterIndicatorCode(String disasterIndicatorCode) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setDisasterCategoryName(String disasterCategoryName) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setDisasterSubcategoryName(String disasterSubcategoryName) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setDisasterIndicatorName(String disasterIndicatorName) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setDescription(String description) {
+        throw readOnly();
+    }
+
+    /**
+     * 序列化时写出全部字段已计算好的普通 DecodedId（字典快照不参与序列化）
+     */
+    private Object writeReplace() {
+        DecodedId copy = new DecodedId();
+        copy.setOriginalId(getOriginalId());
+        copy.setGeoCode(getGeoCode());
+        copy.setTimeCode(getTimeCode());
+        copy.setDateTime(getDateTime());
+        copy.setSourceCategoryCode(getSourceCategoryCode());
+        copy.setSourceSubcategoryCode(getSourceSubcategoryCode());
+        copy.setSourceCategoryName(getSourceCategoryName());
+        copy.setSourceSubcategoryName(getSourceSubcategoryName());
+        copy.setCarrierCode(getCarrierCode());
+        copy.setCarrierName(getCarrierName());
+        copy.setDisasterCode(getDisasterCode());
+        copy.setDisasterCategoryCode(getDisasterCategoryCode());
+        copy.setDisasterSubcategoryCode(getDisasterSubcategoryCode());
+        copy.setDisasterIndicatorCode(getDisasterIndicatorCode());
+        copy.setDisasterCategoryName(getDisasterCategoryName());
+        copy.setDisasterSubcategoryName(getDisasterSubcategoryName());
+        copy.setDisasterIndicatorName(getDisasterIndicatorName());
+        copy.setDescription(getDescription());
+        return copy;
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("解码结果为只读对象");
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.module.util;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 受管索引声明：索引名 + 有序的索引键
+ * 与数据库中已有索引按索引键比较（不按名称），同样的键以其他名称存在时视为已存在，不重复创建。
+ */
+public class ManagedIndex {
+
+    private final String name;
+    private final Document keys;
+
+    private ManagedIndex(String name, Document keys) {
+        this.name = name;
+        this.keys = keys;
+    }
+
+    /**
+     * @param name 索引名
+     * @param keys 依次为字段名、方向（1 / -1 / "2dsphere"）
+     */
+    public static ManagedIndex of(String name, Object... keys) {
+        if (keys.length == 0 || keys.length % 2 != 0) {
+            throw new IllegalArgumentException("索引键必须成对给出: " + name);
+        }
+        Document document = new Document();
+        for (int i = 0; i < keys.length; i += 2) {
+            document.append((String) keys[i], keys[i + 1]);
+        }
+        return new ManagedIndex(name, document);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Document getKeys() {
+        return keys;
+    }
+
+    public IndexDefinition toDefinition() {
+        return new CompoundIndexDefinition(keys).named(name).background();
+    }
+
+    /**
+     * 已有索引的键是否与本索引完全相同（字段顺序、方向均一致）
+     */
+    public boolean sameKeys(Document existing) {
+        List<Map.Entry<String, Object>> mine = new ArrayList<>(keys.entrySet());
+        List<Map.Entry<String, Object>> theirs = new ArrayList<>(existing.entrySet());
+        if (mine.size() != theirs.size()) {
+            return false;
+        }
+        for (int i = 0; i < mine.size(); i++) {
+            if (!mine.get(i).getKey().equals(theirs.get(i).getKey())
+                    || !sameDirection(mine.get(i).getValue(), theirs.get(i).getValue(), false)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 已有的普通索引是否为本索引的真前缀（方向全部相同或全部相反），这样的索引能完成的查询本索引都能完成
+     */
+    public boolean coversAsPrefix(Document existing) {
+        List<Map.Entry<String, Object>> mine = new ArrayList<>(keys.entrySet());
+        List<Map.Entry<String, Object>> theirs = new ArrayList<>(existing.entrySet());
+        if (theirs.isEmpty() || theirs.size() >= mine.size()) {
+            return false;
+        }
+        return prefixMatches(mine, theirs, false) || prefixMatches(mine, theirs, true);
+    }
+
+    private static boolean prefixMatches(List<Map.Entry<String, Object>> mine, List<Map.Entry<String, Object>> theirs,
+                                         boolean reversed) {
+        for (int i = 0; i < theirs.size(); i++) {
+            if (!mine.get(i).getKey().equals(theirs.get(i).getKey())
+                    || !(theirs.get(i).getValue() instanceof Number)
+                    || !sameDirection(mine.get(i).getValue(), theirs.get(i).getValue(), reversed)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 比较索引方向；数据库返回的方向可能是 1、1.0 或 NumberLong
+     */
+    private static boolean sameDirection(Object declared, Object existing, boolean reversed) {
+        if (declared instanceof Number && existing instanceof Number) {
+            double expected = ((Number) declared).doubleValue() * (reversed ? -1 : 1);
+            return Math.signum(expected) == Math.signum(((Number) existing).doubleValue());
+        }
+        return !reversed && declared.equals(existing);
+    }
+
+    @Override
+    public String toString() {
+        return name + keys.toJson();
+    }
+}
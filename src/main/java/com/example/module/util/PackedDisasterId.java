@@ -0,0 +1,240 @@
+package com.example.module.util;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.io.Serializable;
+
+/**
+ * 36位灾情ID的紧凑表示（128位）
+ *
+ * 将ID按十进制拆成前18位与后18位，分别存入两个 long（均小于 10^18，不会溢出）：
+ * - high：第1-18位，即地理码（12位）+ 时间码前6位
+ * - low：第19-36位，即时间码后8位 + 来源码（3位）+ 载体码（1位）+ 灾情码（6位）
+ *
+ * 由于两个值都是非负数，按 (high, low) 比较的顺序与原字符串的字典序一致；
+ * 序列化为16字节（大端）后按无符号字节比较的顺序同样一致：raw_data.disaster_id 即以该形式存储为 Binary 并建有索引
+ * （见 PackedDisasterIdConverters），JSON 中仍输出为36位字符串。
+ * 各编码段可直接用整数运算从两个 long 中取出，无需还原字符串。
+ */
+public final class PackedDisasterId implements Comparable<PackedDisasterId>, Serializable {
+
+    /**
+     * 序列化后的字节数
+     */
+    public static final int BYTES = 16;
+
+    private static final long E2 = 100L;
+    private static final long E3 = 1_000L;
+    private static final long E5 = 100_000L;
+    private static final long E6 = 1_000_000L;
+    private static final long E7 = 10_000_000L;
+    private static final long E8 = 100_000_000L;
+    private static final long E9 = 1_000_000_000L;
+    private static final long E10 = 10_000_000_000L;
+    private static final long MAX = E9 * E9;
+
+    private final long high;
+    private final long low;
+
+    private PackedDisasterId(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * 将36位ID压缩为128位表示
+     *
+     * @param id 36位一体化编码ID
+     * @throws IllegalArgumentException 如果ID不是36位数字
+     */
+    @JsonCreator
+    public static PackedDisasterId pack(CharSequence id) {
+        if (id == null || id.length() != 36) {
+            throw new IllegalArgumentException("ID长度必须为36位，当前长度: " + (id == null ? 0 : id.length()));
+        }
+        long high = 0;
+        long low = 0;
+        for (int i = 0; i < 18; i++) {
+            high = high * 10 + digit(id.charAt(i));
+            low = low * 10 + digit(id.charAt(i + 18));
+        }
+        return new PackedDisasterId(high, low);
+    }
+
+    /**
+     * 由两个 long 还原
+     *
+     * @throws IllegalArgumentException 如果取值超出18位十进制数的范围
+     */
+    public static PackedDisasterId of(long high, long low) {
+        if (high < 0 || high >= MAX || low < 0 || low >= MAX) {
+            throw new IllegalArgumentException("压缩ID取值超出范围");
+        }
+        return new PackedDisasterId(high, low);
+    }
+
+    /**
+     * 由16字节（大端，先high后low）还原
+     *
+     * @throws IllegalArgumentException 如果字节长度不是16或取值超出范围
+     */
+    public static PackedDisasterId fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != BYTES) {
+            throw new IllegalArgumentException("压缩ID必须为16字节");
+        }
+        return of(readLong(bytes, 0), readLong(bytes, 8));
+    }
+
+    /**
+     * 序列化为16字节（大端，先high后low）
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[BYTES];
+        writeLong(bytes, 0, high);
+        writeLong(bytes, 8, low);
+        return bytes;
+    }
+
+    /**
+     * 第1-18位
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * 第19-36位
+     */
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * 地理码（第1-12位）
+     */
+    public long geoCode() {
+        return high / E6;
+    }
+
+    /**
+     * 时间码（第13-26位，YYYYMMDDHHMMSS）
+     */
+    public long timeCode() {
+        return (high % E6) * E8 + low / E10;
+    }
+
+    /**
+     * 来源码大类（第27位）
+     */
+    public int sourceCategory() {
+        return (int) (low / E9 % 10);
+    }
+
+    /**
+     * 来源码子类（第28-29位）
+     */
+    public int sourceSubcategory() {
+        return (int) (low / E7 % E2);
+    }
+
+    /**
+     * 载体码（第30位）
+     */
+    public int carrier() {
+        return (int) (low / E6 % 10);
+    }
+
+    /**
+     * 灾情码（第31-36位）
+     */
+    public int disasterCode() {
+        return (int) (low % E6);
+    }
+
+    /**
+     * 灾害大类代码（第31位）
+     */
+    public int disasterCategory() {
+        return (int) (low % E6 / E5);
+    }
+
+    /**
+     * 灾害子类代码（第32-33位）
+     */
+    public int disasterSubcategory() {
+        return (int) (low % E5 / E3);
+    }
+
+    /**
+     * 灾情指标代码（第34-36位）
+     */
+    public int disasterIndicator() {
+        return (int) (low % E3);
+    }
+
+    @Override
+    public int compareTo(PackedDisasterId other) {
+        int result = Long.compare(high, other.high);
+        return result != 0 ? result : Long.compare(low, other.low);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PackedDisasterId)) {
+            return false;
+        }
+        PackedDisasterId other = (PackedDisasterId) o;
+        return ((high ^ other.high) | (low ^ other.low)) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        long h = high * 31 + low;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * 还原为36位ID字符串
+     */
+    @JsonValue
+    @Override
+    public String toString() {
+        char[] chars = new char[36];
+        long h = high;
+        long l = low;
+        for (int i = 17; i >= 0; i--) {
+            chars[i] = (char) ('0' + h % 10);
+            chars[i + 18] = (char) ('0' + l % 10);
+            h /= 10;
+            l /= 10;
+        }
+        return new String(chars);
+    }
+
+    private static int digit(char c) {
+        int d = c - '0';
+        if (d < 0 || d > 9) {
+            throw new IllegalArgumentException("ID必须只包含数字");
+        }
+        return d;
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static void writeLong(byte[] bytes, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+}
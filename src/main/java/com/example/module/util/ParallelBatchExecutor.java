@@ -0,0 +1,138 @@
+package com.example.module.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 批量任务并行执行器
+ * 将批量数据按下标区间拆分到有界的 ForkJoinPool 中处理，结果按输入顺序返回；
+ * 数量少于阈值或未配置线程池时在调用线程中顺序执行，避免小批量的调度开销。
+ *
+ * 处理函数应自行捕获单条数据的异常并转换为结果（如 Result.error），
+ * 以保证逐条的错误信息不会因为某一条失败而丢失。
+ */
+public class ParallelBatchExecutor {
+
+    /**
+     * 每个工作线程大致分到的子任务数，用于平衡各线程的负载
+     */
+    private static final int SPLITS_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * @param pool      并行使用的线程池，为null时始终顺序执行
+     * @param threshold 启用并行的最小批量
+     */
+    public ParallelBatchExecutor(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = Math.max(threshold, 1);
+    }
+
+    /**
+     * 顺序执行器
+     */
+    public static ParallelBatchExecutor sequential() {
+        return new ParallelBatchExecutor(null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 批量处理
+     *
+     * @param items    输入数据
+     * @param function 处理函数，参数为下标与数据
+     * @return 与输入一一对应、顺序相同的结果
+     */
+    public <T, R> List<R> map(List<T> items, IndexedFunction<? super T, ? extends R> function) {
+        int size = items.size();
+        if (pool == null || size < threshold || pool.getParallelism() <= 1) {
+            List<R> results = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                results.add(function.apply(i, items.get(i)));
+            }
+            return results;
+        }
+
+        Object[] results = new Object[size];
+        int leafSize = Math.max(1, size / (pool.getParallelism() * SPLITS_PER_THREAD));
+        pool.invoke(new RangeTask<>(items, function, results, 0, size, leafSize));
+        @SuppressWarnings("unchecked")
+        List<R> list = (List<R>) Arrays.asList(results);
+        return list;
+    }
+
+    /**
+     * 是否会以并行方式处理该数量的数据
+     */
+    public boolean isParallel(int size) {
+        return pool != null && size >= threshold && pool.getParallelism() > 1;
+    }
+
+    /**
+     * 并行度，顺序执行时为1
+     */
+    public int getParallelism() {
+        return pool == null ? 1 : pool.getParallelism();
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * 关闭线程池
+     */
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 带下标的处理函数
+     */
+    @FunctionalInterface
+    public interface IndexedFunction<T, R> {
+        R apply(int index, T item);
+    }
+
+    /**
+     * 处理 [from, to) 区间，区间较大时一分为二
+     */
+    private static final class RangeTask<T, R> extends RecursiveAction {
+
+        private final List<T> items;
+        private final IndexedFunction<? super T, ? extends R> function;
+        private final Object[] results;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        RangeTask(List<T> items, IndexedFunction<? super T, ? extends R> function,
+                  Object[] results, int from, int to, int leafSize) {
+            this.items = items;
+            this.function = function;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                for (int i = from; i < to; i++) {
+                    results[i] = function.apply(i, items.get(i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask<>(items, function, results, from, middle, leafSize),
+                    new RangeTask<>(items, function, results, middle, to, leafSize));
+        }
+    }
+}
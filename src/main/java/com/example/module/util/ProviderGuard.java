@@ -0,0 +1,192 @@
+package com.example.module.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 外部服务调用保护：舱壁（并发上限）+ 熔断器 + 按操作统计的耗时直方图
+ * 同时进行的调用数达到上限时最多等待 maxWaitMillis，仍无空位或熔断器打开时直接返回 503，
+ * 不再占用调用线程等待外部服务，调用方按"暂无远程结果"降级处理。
+ *
+ * 返回码为 200 或 404（外部服务明确无匹配）的调用视为成功，其余错误计入熔断器的失败率。
+ */
+public class ProviderGuard {
+
+    /**
+     * 调用被舱壁或熔断器拒绝时的返回码
+     */
+    public static final int REJECTED_CODE = 503;
+
+    private final String name;
+    private final int maxConcurrent;
+    private final long maxWaitMillis;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final LongAdder circuitRejectedCount = new LongAdder();
+    private final LongAdder bulkheadRejectedCount = new LongAdder();
+
+    /**
+     * @param name           外部服务名称（用于提示信息）
+     * @param maxConcurrent  最大并发调用数
+     * @param maxWaitMillis  并发已满时的最长等待时间（毫秒）
+     * @param circuitBreaker 熔断器
+     */
+    public ProviderGuard(String name, int maxConcurrent, long maxWaitMillis, CircuitBreaker circuitBreaker) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitMillis = maxWaitMillis;
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * 在保护下执行一次调用
+     *
+     * @param operation 操作名称，耗时按操作分别统计
+     * @param call      实际调用，应自行处理异常并以错误结果返回
+     * @return 调用结果；被拒绝时返回码为 {@link #REJECTED_CODE}
+     */
+    public <T> Result<T> execute(String operation, Supplier<Result<T>> call) {
+        // 先占舱壁再取熔断器许可：半开状态的试探许可一经取得必定执行调用并回报结果，不会因舱壁等待超时而泄漏
+        try {
+            if (!bulkhead.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                bulkheadRejectedCount.increment();
+                return Result.error(REJECTED_CODE, name + "并发调用已达上限");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.error(REJECTED_CODE, name + "调用已取消");
+        }
+        long permit = circuitBreaker.tryAcquire();
+        if (permit == CircuitBreaker.REJECTED) {
+            bulkhead.release();
+            circuitRejectedCount.increment();
+            return Result.error(REJECTED_CODE, name + "暂不可用（熔断中）");
+        }
+
+        long start = System.nanoTime();
+        boolean failure = true;
+        try {
+            Result<T> result = call.get();
+            failure = result == null || (result.getCode() != 200 && result.getCode() != 404);
+            return result;
+        } finally {
+            bulkhead.release();
+            histogram(operation).record(System.nanoTime() - start, failure);
+            if (failure) {
+                circuitBreaker.onFailure(permit);
+            } else {
+                circuitBreaker.onSuccess(permit);
+            }
+        }
+    }
+
+    public Stats getStats() {
+        Stats stats = new Stats();
+        stats.setCircuitState(circuitBreaker.getState().name());
+        stats.setFailureRate(circuitBreaker.getFailureRate());
+        stats.setOpenCount(circuitBreaker.getOpenCount());
+        stats.setMaxConcurrent(maxConcurrent);
+        stats.setActiveCount(maxConcurrent - bulkhead.availablePermits());
+        stats.setCircuitRejectedCount(circuitRejectedCount.sum());
+        stats.setBulkheadRejectedCount(bulkheadRejectedCount.sum());
+        Map<String, LatencyHistogram.Snapshot> latency = new TreeMap<>();
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            latency.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        stats.setLatency(latency);
+        return stats;
+    }
+
+    private LatencyHistogram histogram(String operation) {
+        return histograms.computeIfAbsent(operation, k -> new LatencyHistogram());
+    }
+
+    /**
+     * 调用保护统计信息
+     */
+    public static class Stats {
+        private String circuitState;
+        private Double failureRate;
+        private Long openCount;
+        private Integer maxConcurrent;
+        private Integer activeCount;
+        private Long circuitRejectedCount;
+        private Long bulkheadRejectedCount;
+        private Map<String, LatencyHistogram.Snapshot> latency;
+
+        public String getCircuitState() {
+            return circuitState;
+        }
+
+        public void setCircuitState(String circuitState) {
+            this.circuitState = circuitState;
+        }
+
+        public Double getFailureRate() {
+            return failureRate;
+        }
+
+        public void setFailureRate(Double failureRate) {
+            this.failureRate = failureRate;
+        }
+
+        public Long getOpenCount() {
+            return openCount;
+        }
+
+        public void setOpenCount(Long openCount) {
+            this.openCount = openCount;
+        }
+
+        public Integer getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public void setMaxConcurrent(Integer maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        public Integer getActiveCount() {
+            return activeCount;
+        }
+
+        public void setActiveCount(Integer activeCount) {
+            this.activeCount = activeCount;
+        }
+
+        public Long getCircuitRejectedCount() {
+            return circuitRejectedCount;
+        }
+
+        public void setCircuitRejectedCount(Long circuitRejectedCount) {
+            this.circuitRejectedCount = circuitRejectedCount;
+        }
+
+        public Long getBulkheadRejectedCount() {
+            return bulkheadRejectedCount;
+        }
+
+        public void setBulkheadRejectedCount(Long bulkheadRejectedCount) {
+            this.bulkheadRejectedCount = bulkheadRejectedCount;
+        }
+
+        /**
+         * 按操作名称统计的调用耗时
+         */
+        public Map<String, LatencyHistogram.Snapshot> getLatency() {
+            return latency;
+        }
+
+        public void setLatency(Map<String, LatencyHistogram.Snapshot> latency) {
+            this.latency = latency;
+        }
+    }
+}
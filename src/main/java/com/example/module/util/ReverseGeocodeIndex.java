@@ -0,0 +1,234 @@
+package com.example.module.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 离线逆地理编码索引（不可变）
+ * 以行政区划中心点构建三维 k-d 树：经纬度先换算为单位球面上的坐标，
+ * 球面上的直线（弦）距离与大圆距离单调对应，因此在三维空间里找到的最近点就是地表最近的中心点，
+ * 不受经度收敛和 ±180° 经线的影响。
+ *
+ * 查询结果为中心点距离最近的行政区划（任意层级），只是近似的归属判断，
+ * 调用方应结合 {@link Match#getDistanceKm()} 决定是否采用。
+ */
+public final class ReverseGeocodeIndex {
+
+    /**
+     * 地球平均半径（千米）
+     */
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final int DIMENSIONS = 3;
+
+    /**
+     * 按 k-d 树顺序存放的坐标（x, y, z 交替）与对应行政区划：区间 [lo, hi) 的根节点位于 (lo + hi) / 2
+     */
+    private final double[] coordinates;
+    private final AdminDivisionIndex.Division[] divisions;
+
+    private ReverseGeocodeIndex(double[] coordinates, AdminDivisionIndex.Division[] divisions) {
+        this.coordinates = coordinates;
+        this.divisions = divisions;
+    }
+
+    /**
+     * 由带中心点坐标的行政区划构建索引，没有中心点的行政区划被忽略
+     */
+    public static ReverseGeocodeIndex build(List<AdminDivisionIndex.Division> source) {
+        List<AdminDivisionIndex.Division> withCenter = new ArrayList<>(source.size());
+        for (AdminDivisionIndex.Division division : source) {
+            if (division.hasCenter()) {
+                withCenter.add(division);
+            }
+        }
+
+        int size = withCenter.size();
+        double[] coordinates = new double[size * DIMENSIONS];
+        AdminDivisionIndex.Division[] divisions = new AdminDivisionIndex.Division[size];
+        for (int i = 0; i < size; i++) {
+            AdminDivisionIndex.Division division = withCenter.get(i);
+            toUnitVector(division.getLongitude(), division.getLatitude(), coordinates, i * DIMENSIONS);
+            divisions[i] = division;
+        }
+        arrange(coordinates, divisions, 0, size, 0);
+        return new ReverseGeocodeIndex(coordinates, divisions);
+    }
+
+    /**
+     * 收录的中心点数量
+     */
+    public int size() {
+        return divisions.length;
+    }
+
+    /**
+     * 查找中心点距离最近的行政区划
+     *
+     * @param longitude 经度（-180 至 180）
+     * @param latitude  纬度（-90 至 90）
+     * @return 最近的行政区划及距离，索引为空时返回null
+     */
+    public Match nearest(double longitude, double latitude) {
+        if (divisions.length == 0) {
+            return null;
+        }
+        double[] target = new double[DIMENSIONS];
+        toUnitVector(longitude, latitude, target, 0);
+        Search search = new Search(target);
+        search(search, 0, divisions.length, 0);
+        return new Match(divisions[search.best], chordToKm(search.bestDistance));
+    }
+
+    /**
+     * 经纬度是否在合法范围内
+     */
+    public static boolean isValidCoordinate(double longitude, double latitude) {
+        return longitude >= -180 && longitude <= 180 && latitude >= -90 && latitude <= 90;
+    }
+
+    private void search(Search search, int lo, int hi, int axis) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        double distance = squaredDistance(search.target, mid);
+        if (distance < search.bestDistance) {
+            search.bestDistance = distance;
+            search.best = mid;
+        }
+
+        double delta = search.target[axis] - coordinates[mid * DIMENSIONS + axis];
+        int nextAxis = (axis + 1) % DIMENSIONS;
+        if (delta < 0) {
+            search(search, lo, mid, nextAxis);
+            if (delta * delta < search.bestDistance) {
+                search(search, mid + 1, hi, nextAxis);
+            }
+        } else {
+            search(search, mid + 1, hi, nextAxis);
+            if (delta * delta < search.bestDistance) {
+                search(search, lo, mid, nextAxis);
+            }
+        }
+    }
+
+    private double squaredDistance(double[] target, int index) {
+        int offset = index * DIMENSIONS;
+        double dx = target[0] - coordinates[offset];
+        double dy = target[1] - coordinates[offset + 1];
+        double dz = target[2] - coordinates[offset + 2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * 递归地把 [lo, hi) 区间的中位数（按当前坐标轴）放到区间中点，左侧不大于、右侧不小于中点
+     */
+    private static void arrange(double[] coordinates, AdminDivisionIndex.Division[] divisions, int lo, int hi, int axis) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        select(coordinates, divisions, lo, hi - 1, mid, axis);
+        int nextAxis = (axis + 1) % DIMENSIONS;
+        arrange(coordinates, divisions, lo, mid, nextAxis);
+        arrange(coordinates, divisions, mid + 1, hi, nextAxis);
+    }
+
+    /**
+     * 快速选择：使第k个元素就位
+     */
+    private static void select(double[] coordinates, AdminDivisionIndex.Division[] divisions,
+                               int left, int right, int k, int axis) {
+        while (left < right) {
+            double pivot = coordinates[((left + right) >>> 1) * DIMENSIONS + axis];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coordinates[i * DIMENSIONS + axis] < pivot) {
+                    i++;
+                }
+                while (coordinates[j * DIMENSIONS + axis] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(coordinates, divisions, i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static void swap(double[] coordinates, AdminDivisionIndex.Division[] divisions, int i, int j) {
+        for (int d = 0; d < DIMENSIONS; d++) {
+            double t = coordinates[i * DIMENSIONS + d];
+            coordinates[i * DIMENSIONS + d] = coordinates[j * DIMENSIONS + d];
+            coordinates[j * DIMENSIONS + d] = t;
+        }
+        AdminDivisionIndex.Division t = divisions[i];
+        divisions[i] = divisions[j];
+        divisions[j] = t;
+    }
+
+    private static void toUnitVector(double longitude, double latitude, double[] target, int offset) {
+        double lon = Math.toRadians(longitude);
+        double lat = Math.toRadians(latitude);
+        double cosLat = Math.cos(lat);
+        target[offset] = cosLat * Math.cos(lon);
+        target[offset + 1] = cosLat * Math.sin(lon);
+        target[offset + 2] = Math.sin(lat);
+    }
+
+    /**
+     * 单位球面上弦长的平方换算为地表大圆距离（千米）
+     */
+    private static double chordToKm(double squaredChord) {
+        double halfChord = Math.min(1.0, Math.sqrt(squaredChord) / 2);
+        return 2 * Math.asin(halfChord) * EARTH_RADIUS_KM;
+    }
+
+    /**
+     * 查询过程中的当前最优解
+     */
+    private static final class Search {
+        private final double[] target;
+        private int best = -1;
+        private double bestDistance = Double.POSITIVE_INFINITY;
+
+        Search(double[] target) {
+            this.target = target;
+        }
+    }
+
+    /**
+     * 查询结果
+     */
+    public static final class Match {
+        private final AdminDivisionIndex.Division division;
+        private final double distanceKm;
+
+        Match(AdminDivisionIndex.Division division, double distanceKm) {
+            this.division = division;
+            this.distanceKm = distanceKm;
+        }
+
+        public AdminDivisionIndex.Division getDivision() {
+            return division;
+        }
+
+        /**
+         * 查询点到行政区划中心点的大圆距离（千米）
+         */
+        public double getDistanceKm() {
+            return distanceKm;
+        }
+    }
+}
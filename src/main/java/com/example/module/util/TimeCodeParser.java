@@ -0,0 +1,175 @@
+package com.example.module.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 时间码解析器
+ * 将14位时间码（YYYYMMDDHHMMSS）直接用整数运算换算为纪元秒，不经过 DateTimeFormatter。
+ *
+ * 时间码本身不带时区，换算时按 UTC 处理（即 LocalDateTime.toEpochSecond(ZoneOffset.UTC)），
+ * 得到的纪元秒只用于比较与范围查询，可与 {@link LocalDateTime} 无损互转。
+ *
+ * 校验规则与 DateTimeFormatter.ofPattern("yyyyMMddHHmmss") 的默认（SMART）解析一致：
+ * - 年份 0001-9999，月份 01-12，日 01-31，超出当月天数的日期调整为当月最后一天
+ * - 小时 00-23，分钟、秒 00-59
+ * - 240000 视为次日 00:00:00
+ */
+public final class TimeCodeParser {
+
+    /**
+     * 时间码长度
+     */
+    public static final int LENGTH = 14;
+
+    /**
+     * 时间码不合法时的返回值
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final int SECONDS_PER_DAY = 86400;
+
+    /**
+     * 0000-01-01 至 1970-01-01 的天数
+     */
+    private static final long DAYS_0000_TO_1970 = 719528L;
+
+    private TimeCodeParser() {
+    }
+
+    /**
+     * 解析14位时间码
+     *
+     * @param timeCode 时间码
+     * @return 纪元秒，不合法时返回 {@link #INVALID}
+     */
+    public static long toEpochSecond(CharSequence timeCode) {
+        if (timeCode == null || timeCode.length() != LENGTH) {
+            return INVALID;
+        }
+        return toEpochSecond(timeCode, 0);
+    }
+
+    /**
+     * 解析文本中从 offset 开始的14位时间码（如36位ID中的第13-26位）
+     *
+     * @return 纪元秒，不合法时返回 {@link #INVALID}
+     */
+    public static long toEpochSecond(CharSequence text, int offset) {
+        if (text == null || offset < 0 || offset + LENGTH > text.length()) {
+            return INVALID;
+        }
+        int year = digits(text, offset, 4);
+        int month = digits(text, offset + 4, 2);
+        int day = digits(text, offset + 6, 2);
+        int hour = digits(text, offset + 8, 2);
+        int minute = digits(text, offset + 10, 2);
+        int second = digits(text, offset + 12, 2);
+        return toEpochSecond(year, month, day, hour, minute, second);
+    }
+
+    /**
+     * 校验各时间分量并换算为纪元秒
+     *
+     * @return 纪元秒，不合法时返回 {@link #INVALID}
+     */
+    public static long toEpochSecond(int year, int month, int day, int hour, int minute, int second) {
+        if (year < 1 || year > 9999 || month < 1 || month > 12 || day < 1 || day > 31
+                || hour < 0 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return INVALID;
+        }
+        if (hour > 23 && !(hour == 24 && minute == 0 && second == 0)) {
+            return INVALID;
+        }
+
+        // 超出当月天数时取当月最后一天；24:00:00 按秒数自然进位到次日零点
+        int monthLength = monthLength(year, month);
+        if (day > monthLength) {
+            day = monthLength;
+        }
+        return epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second;
+    }
+
+    /**
+     * 解析14位时间码为 LocalDateTime
+     *
+     * @throws IllegalArgumentException 如果时间码不合法
+     */
+    public static LocalDateTime parse(CharSequence timeCode) {
+        long epochSecond = toEpochSecond(timeCode);
+        if (epochSecond == INVALID) {
+            throw new IllegalArgumentException("时间码格式错误: " + timeCode);
+        }
+        return toLocalDateTime(epochSecond);
+    }
+
+    /**
+     * 是否为合法的14位时间码
+     */
+    public static boolean isValid(CharSequence timeCode) {
+        return toEpochSecond(timeCode) != INVALID;
+    }
+
+    /**
+     * 纪元秒转 LocalDateTime
+     */
+    public static LocalDateTime toLocalDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * LocalDateTime 转纪元秒（与时间码的换算方式相同）
+     */
+    public static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * 1970-01-01 起的天数，算法同 LocalDate.toEpochDay
+     */
+    private static long epochDay(int year, int month, int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    static int monthLength(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * 读取定长十进制数字，遇到非数字字符返回-1
+     */
+    private static int digits(CharSequence s, int from, int count) {
+        int value = 0;
+        for (int i = from, end = from + count; i < end; i++) {
+            int d = s.charAt(i) - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            value = value * 10 + d;
+        }
+        return value;
+    }
+}